@@ -0,0 +1,137 @@
+package ru.practicum.shareit.benchmark;
+
+import ru.practicum.shareit.booking.dto.BookingForItemView;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.item.entity.Comment;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+    static final long OWNER_ID = 1L;
+    static final long REQUESTER_ID = 2L;
+
+    private BenchmarkData() {
+    }
+
+    static User owner() {
+        return User.builder().id(OWNER_ID).name("Owner").email("owner@mail.ru").build();
+    }
+
+    static User requester() {
+        return User.builder().id(REQUESTER_ID).name("Requester").email("requester@mail.ru").build();
+    }
+
+    static List<ItemRequest> itemRequests(int count, LocalDateTime now) {
+        List<ItemRequest> requests = new ArrayList<>(count);
+        User requester = requester();
+        for (int i = 0; i < count; i++) {
+            requests.add(ItemRequest.builder()
+                    .id((long) i + 1)
+                    .description("Need a tool " + i)
+                    .requester(requester)
+                    .created(now.minusMinutes(i))
+                    .build());
+        }
+        return requests;
+    }
+
+    static List<Item> items(int count, List<ItemRequest> requests) {
+        List<Item> items = new ArrayList<>(count);
+        User owner = owner();
+        for (int i = 0; i < count; i++) {
+            items.add(Item.builder()
+                    .id((long) i + 1)
+                    .name("Item" + i)
+                    .description("Description of item " + i)
+                    .available(true)
+                    .owner(owner)
+                    .request(requests.isEmpty() ? null : requests.get(i % requests.size()))
+                    .build());
+        }
+        return items;
+    }
+
+    static List<BookingForItemView> lastAndNextBookings(List<Item> items, int count, LocalDateTime now) {
+        List<BookingForItemView> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Item item = items.get(i / 2 % items.size());
+            LocalDateTime start = (i % 2 == 0) ? now.minusDays(2) : now.plusDays(1);
+            bookings.add(new BookingForItem((long) i + 1, item.getId(), REQUESTER_ID, start, start.plusDays(1)));
+        }
+        return bookings;
+    }
+
+    static List<BookingView> bookingViews(List<Item> items, int count, LocalDateTime now) {
+        List<BookingView> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Item item = items.get(i % items.size());
+            LocalDateTime start = now.minusDays(i % 30);
+            bookings.add(new BookingView((long) i + 1, start, start.plusDays(1), BookingStatus.APPROVED,
+                    REQUESTER_ID, "Requester", "requester@mail.ru", item.getId(), item.getName(),
+                    item.getDescription(), item.getAvailable(), null));
+        }
+        return bookings;
+    }
+
+    static List<Comment> comments(List<Item> items, LocalDateTime now) {
+        List<Comment> comments = new ArrayList<>(items.size());
+        User author = requester();
+        for (Item item : items) {
+            comments.add(Comment.builder()
+                    .id(item.getId())
+                    .text("Comment for " + item.getName())
+                    .item(item)
+                    .author(author)
+                    .created(now)
+                    .build());
+        }
+        return comments;
+    }
+
+    private static final class BookingForItem implements BookingForItemView {
+        private final Long id;
+        private final Long itemId;
+        private final Long bookerId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        BookingForItem(Long id, Long itemId, Long bookerId, LocalDateTime start, LocalDateTime end) {
+            this.id = id;
+            this.itemId = itemId;
+            this.bookerId = bookerId;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getItemId() {
+            return itemId;
+        }
+
+        @Override
+        public Long getBookerId() {
+            return bookerId;
+        }
+
+        @Override
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        @Override
+        public LocalDateTime getEnd() {
+            return end;
+        }
+    }
+}
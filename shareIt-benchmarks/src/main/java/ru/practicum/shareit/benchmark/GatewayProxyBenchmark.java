@@ -0,0 +1,78 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Flux;
+import ru.practicum.shareit.booking.mapper.BookingMapperImpl;
+import ru.practicum.shareit.item.entity.Item;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GatewayProxyBenchmark {
+    private static final int CHUNK_SIZE = 8192;
+    @Param({"1", "100", "10000", "100000"})
+    private int size;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private List<ByteBuffer> chunks;
+    private ExchangeStrategies strategies;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        List<Item> items = BenchmarkData.items(size, Collections.emptyList());
+        byte[] body = objectMapper.writeValueAsBytes(new BookingMapperImpl()
+                .toBookingDtoResponseList(BenchmarkData.bookingViews(items, size, LocalDateTime.now())));
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            chunks.add(ByteBuffer.wrap(body, offset, Math.min(CHUNK_SIZE, body.length - offset)).slice());
+        }
+        strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1))
+                .build();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> passThrough() {
+        return serverResponse().toEntity(byte[].class).block();
+    }
+
+    @Benchmark
+    public byte[] objectDecodeAndEncode() throws JsonProcessingException {
+        ResponseEntity<Object> response = serverResponse().toEntity(Object.class).block();
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    private ClientResponse serverResponse() {
+        Flux<DataBuffer> body = Flux.fromIterable(chunks)
+                .map(chunk -> DefaultDataBufferFactory.sharedInstance.wrap(chunk.duplicate()));
+        return ClientResponse.create(HttpStatus.OK, strategies)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build();
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.mapper.BookingMapperImpl;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDtoResponseWithDate;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.mapper.CommentMapperImpl;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.item.service.ItemViewCache;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemListAssemblyBenchmark {
+    @Param({"1", "100", "10000", "100000"})
+    private int bookingCount;
+    private ItemServiceImpl itemService;
+    private int itemCount;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        itemCount = Math.max(1, (bookingCount + 1) / 2);
+        List<Item> items = BenchmarkData.items(itemCount, Collections.emptyList());
+        itemService = new ItemServiceImpl(
+                RepositoryStub.of(ItemRepository.class, Map.of("findAllByOwnerId", items)),
+                new ItemMapperImpl(),
+                RepositoryStub.of(BookingRepository.class, Map.of("findLastAndNextApprovedBookings",
+                        BenchmarkData.lastAndNextBookings(items, bookingCount, now))),
+                new BookingMapperImpl(),
+                RepositoryStub.of(UserRepository.class, Map.of()),
+                RepositoryStub.of(CommentRepository.class, Map.of("findAllByItemIn",
+                        BenchmarkData.comments(items, now))),
+                new CommentMapperImpl(),
+                RepositoryStub.of(ItemRequestRepository.class, Map.of()),
+                new ItemViewCache(1, Duration.ofMinutes(1), new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public List<ItemDtoResponseWithDate> getAllItemsByOwnerId() {
+        return itemService.getAllItemsByOwnerId(BenchmarkData.OWNER_ID, 0, itemCount);
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestDtoOut;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.mapper.ItemRequestMapperImpl;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestServiceImpl;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemRequestListAssemblyBenchmark {
+    private static final int ITEMS_PER_REQUEST = 10;
+    @Param({"1", "100", "10000", "100000"})
+    private int itemCount;
+    private ItemRequestServiceImpl itemRequestService;
+
+    @Setup
+    public void setUp() {
+        List<ItemRequest> requests = BenchmarkData.itemRequests(Math.max(1, itemCount / ITEMS_PER_REQUEST),
+                LocalDateTime.now());
+        List<Item> items = BenchmarkData.items(itemCount, requests);
+        itemRequestService = new ItemRequestServiceImpl(
+                RepositoryStub.of(UserService.class, Map.of()),
+                RepositoryStub.of(ItemRequestRepository.class, Map.of("findAllByRequesterId", requests)),
+                new ItemRequestMapperImpl(),
+                RepositoryStub.of(ItemRepository.class, Map.of("findAllByRequestIn", items)),
+                new ItemMapperImpl());
+    }
+
+    @Benchmark
+    public List<ItemRequestDtoOut> getAllOwnItemRequests() {
+        return itemRequestService.getAllOwnItemRequests(BenchmarkData.REQUESTER_ID);
+    }
+}
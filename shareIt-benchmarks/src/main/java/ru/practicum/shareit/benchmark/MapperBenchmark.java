@@ -0,0 +1,60 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.mapper.BookingMapperImpl;
+import ru.practicum.shareit.item.dto.CommentDtoResponse;
+import ru.practicum.shareit.item.dto.ItemDtoResponse;
+import ru.practicum.shareit.item.entity.Comment;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.mapper.CommentMapper;
+import ru.practicum.shareit.item.mapper.CommentMapperImpl;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.mapper.ItemMapperImpl;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    @Param({"1", "100", "10000", "100000"})
+    private int size;
+    private final BookingMapper bookingMapper = new BookingMapperImpl();
+    private final ItemMapper itemMapper = new ItemMapperImpl();
+    private final CommentMapper commentMapper = new CommentMapperImpl();
+    private List<BookingView> bookings;
+    private List<Item> items;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        items = BenchmarkData.items(size, Collections.emptyList());
+        bookings = BenchmarkData.bookingViews(items, size, now);
+        comments = BenchmarkData.comments(items, now);
+    }
+
+    @Benchmark
+    public List<BookingDtoResponse> toBookingDtoResponseList() {
+        return bookingMapper.toBookingDtoResponseList(bookings);
+    }
+
+    @Benchmark
+    public List<ItemDtoResponse> toItemDtoResponseList() {
+        return itemMapper.toItemDtoResponseList(items);
+    }
+
+    @Benchmark
+    public List<CommentDtoResponse> toCommentDtoResponseList() {
+        return commentMapper.toCommentDtoResponseList(comments);
+    }
+}
@@ -0,0 +1,47 @@
+package ru.practicum.shareit.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+
+final class RepositoryStub implements InvocationHandler {
+    private final Class<?> type;
+    private final Map<String, Object> results;
+
+    private RepositoryStub(Class<?> type, Map<String, Object> results) {
+        this.type = type;
+        this.results = results;
+    }
+
+    static <T> T of(Class<T> type, Map<String, Object> results) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new RepositoryStub(type, results));
+        return type.cast(proxy);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return type.getSimpleName() + "Stub";
+            }
+        }
+        if (results.containsKey(method.getName())) {
+            return results.get(method.getName());
+        }
+        if (method.getReturnType() == boolean.class) {
+            return true;
+        }
+        if (method.getReturnType() == void.class) {
+            return null;
+        }
+        throw new UnsupportedOperationException(String.format("Method %s.%s is not stubbed",
+                type.getSimpleName(), method.getName()));
+    }
+}
@@ -2,56 +2,86 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingBatchDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
-import ru.practicum.shareit.booking.state.BookingState;
+import ru.practicum.shareit.booking.dto.BookingFilter;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
         super(builder
-                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .baseUrl(serverUrl + API_PREFIX)
                 .build()
         );
     }
 
-    public ResponseEntity<Object> createBooking(BookingDtoRequest bookingDtoRequest, Long userId) {
+    public Mono<ResponseEntity<byte[]>> createBooking(BookingDtoRequest bookingDtoRequest, Long userId) {
         return post("", userId, bookingDtoRequest);
     }
 
-    public ResponseEntity<Object> getBookingById(Long bookingId, Long userId) {
+    public Mono<ResponseEntity<byte[]>> createBookings(BookingBatchDtoRequest bookingBatchDtoRequest, Long userId) {
+        return post("/batch", userId, bookingBatchDtoRequest);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingById(Long bookingId, Long userId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getAllByBookerId(Long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> params = Map.of(
-                "state", state,
-                "from", from,
-                "size", size);
-        return get("" + "?state={state}&from={from}&size={size}", userId, params);
+    public Mono<ResponseEntity<byte[]>> getAllByBookerId(Long userId, BookingFilter filter, Integer from, Integer size,
+                                                       @Nullable String cursor) {
+        Map<String, Object> params = buildListParameters(filter, from, size, cursor);
+        return get("" + buildListQuery(params), userId, params);
     }
 
-    public ResponseEntity<Object> getAllByItemOwnerId(Long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> params = Map.of(
-                "state", state,
-                "from", from,
-                "size", size);
-        return get("/owner" + "?state={state}&from={from}&size={size}", userId, params);
+    public Mono<ResponseEntity<byte[]>> getAllByItemOwnerId(Long userId, BookingFilter filter, Integer from,
+                                                          Integer size, @Nullable String cursor) {
+        Map<String, Object> params = buildListParameters(filter, from, size, cursor);
+        return get("/owner" + buildListQuery(params), userId, params);
     }
 
-    public ResponseEntity<Object> updateBooking(Long userId, Long bookingId, Boolean approved) {
+    public Mono<ResponseEntity<byte[]>> updateBooking(Long userId, Long bookingId, Boolean approved) {
         Map<String, Object> params = Map.of("approved", approved);
         return patch("/" + bookingId + "?approved={approved}", userId, params, null);
     }
+
+    private static Map<String, Object> buildListParameters(BookingFilter filter, Integer from, Integer size,
+                                                           @Nullable String cursor) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("state", filter.getState());
+        params.put("from", from);
+        params.put("size", size);
+        if (cursor != null) {
+            params.put("cursor", cursor);
+        }
+        if (filter.getItemId() != null) {
+            params.put("itemId", filter.getItemId());
+        }
+        if (filter.getRangeStart() != null) {
+            params.put("rangeStart", filter.getRangeStart().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        if (filter.getRangeEnd() != null) {
+            params.put("rangeEnd", filter.getRangeEnd().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        }
+        return params;
+    }
+
+    private static String buildListQuery(Map<String, Object> params) {
+        return params.keySet().stream()
+                .map(name -> name + "={" + name + "}")
+                .collect(Collectors.joining("&", "?", ""));
+    }
 }
@@ -2,17 +2,23 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingBatchDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
+import ru.practicum.shareit.booking.dto.BookingFilter;
 import ru.practicum.shareit.booking.state.BookingState;
 import ru.practicum.shareit.util.HeaderName;
 import ru.practicum.shareit.validation.groups.OnCreate;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.constraints.Min;
+import java.time.LocalDateTime;
 
 @Controller
 @RequestMapping("/bookings")
@@ -23,48 +29,81 @@ public class BookingController {
     private final BookingClient bookingClient;
 
     @PostMapping
-    public ResponseEntity<Object> createBooking(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                @RequestBody @Validated(OnCreate.class)
-                                                BookingDtoRequest bookingDtoRequest,
-                                                HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> createBooking(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                    @RequestBody @Validated(OnCreate.class)
+                                                    BookingDtoRequest bookingDtoRequest,
+                                                    HttpServletRequest request) {
         log.debug("{} request {} received: {}", request.getMethod(), request.getRequestURI(), bookingDtoRequest);
         return bookingClient.createBooking(bookingDtoRequest, userId);
     }
 
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<byte[]>> createBookings(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                     @RequestBody @Validated(OnCreate.class)
+                                                     BookingBatchDtoRequest bookingBatchDtoRequest,
+                                                     HttpServletRequest request) {
+        log.debug("{} request {} received: {}", request.getMethod(), request.getRequestURI(), bookingBatchDtoRequest);
+        return bookingClient.createBookings(bookingBatchDtoRequest, userId);
+    }
+
     @GetMapping("/{bookingId}")
-    public ResponseEntity<Object> getBookingById(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                 @PathVariable Long bookingId,
-                                                 HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> getBookingById(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                     @PathVariable Long bookingId,
+                                                     HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return bookingClient.getBookingById(bookingId, userId);
     }
 
     @GetMapping()
-    public ResponseEntity<Object> getAllByBookerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                   @RequestParam(defaultValue = "ALL") BookingState state,
-                                                   @RequestParam(defaultValue = "0") @Min(0) Integer from,
-                                                   @RequestParam(defaultValue = "100") @Min(1) Integer size,
-                                                   HttpServletRequest request) {
-        log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return bookingClient.getAllByBookerId(userId, state, from, size);
+    public Mono<ResponseEntity<byte[]>> getAllByBookerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                       @RequestParam(defaultValue = "ALL") BookingState state,
+                                                       @RequestParam(required = false) Long itemId,
+                                                       @RequestParam(required = false)
+                                                       @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeStart,
+                                                       @RequestParam(required = false)
+                                                       @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeEnd,
+                                                       @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                                                       @RequestParam(defaultValue = "100") @Min(1) Integer size,
+                                                       @RequestParam(required = false) String cursor,
+                                                       HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        BookingFilter filter = toBookingFilter(state, itemId, rangeStart, rangeEnd);
+        return bookingClient.getAllByBookerId(userId, filter, from, size, cursor);
     }
 
     @GetMapping("/owner")
-    public ResponseEntity<Object> getAllByItemOwnerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                      @RequestParam(defaultValue = "ALL") BookingState state,
-                                                      @RequestParam(defaultValue = "0") @Min(0) Integer from,
-                                                      @RequestParam(defaultValue = "100") @Min(1) Integer size,
-                                                      HttpServletRequest request) {
-        log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return bookingClient.getAllByItemOwnerId(userId, state, from, size);
+    public Mono<ResponseEntity<byte[]>> getAllByItemOwnerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                          @RequestParam(defaultValue = "ALL") BookingState state,
+                                                          @RequestParam(required = false) Long itemId,
+                                                          @RequestParam(required = false)
+                                                          @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeStart,
+                                                          @RequestParam(required = false)
+                                                          @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeEnd,
+                                                          @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                                                          @RequestParam(defaultValue = "100") @Min(1) Integer size,
+                                                          @RequestParam(required = false) String cursor,
+                                                          HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        BookingFilter filter = toBookingFilter(state, itemId, rangeStart, rangeEnd);
+        return bookingClient.getAllByItemOwnerId(userId, filter, from, size, cursor);
     }
 
     @PatchMapping("/{bookingId}")
-    public ResponseEntity<Object> updateBooking(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                @PathVariable Long bookingId,
-                                                @RequestParam Boolean approved,
-                                                HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> updateBooking(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                    @PathVariable Long bookingId,
+                                                    @RequestParam Boolean approved,
+                                                    HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return bookingClient.updateBooking(userId, bookingId, approved);
     }
+
+    private static BookingFilter toBookingFilter(BookingState state, Long itemId, LocalDateTime rangeStart,
+                                                 LocalDateTime rangeEnd) {
+        return BookingFilter.builder()
+                .state(state)
+                .itemId(itemId)
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeEnd)
+                .build();
+    }
 }
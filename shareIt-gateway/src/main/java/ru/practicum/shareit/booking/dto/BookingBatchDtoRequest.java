@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.validation.groups.OnCreate;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingBatchDtoRequest {
+    public static final int MAX_SIZE = 100;
+
+    @NotEmpty(groups = OnCreate.class, message = "The list of bookings must not be empty")
+    @Size(max = MAX_SIZE, groups = OnCreate.class, message = "The list of bookings must contain at most {max} entries")
+    private List<@Valid BookingDtoRequest> bookings;
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import ru.practicum.shareit.booking.state.BookingState;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@EqualsAndHashCode
+@ToString
+public class BookingFilter {
+    @Builder.Default
+    private final BookingState state = BookingState.ALL;
+    private final Long itemId;
+    private final LocalDateTime rangeStart;
+    private final LocalDateTime rangeEnd;
+}
@@ -7,5 +7,6 @@ public enum BookingState {
     CURRENT,
     FUTURE,
     REJECTED,
+    EXPIRED,
     UNSUPPORTED_STATUS
 }
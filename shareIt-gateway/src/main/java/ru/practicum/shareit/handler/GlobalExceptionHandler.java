@@ -8,6 +8,7 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.ConstraintViolationException;
@@ -59,4 +60,14 @@ public class GlobalExceptionHandler {
         log.warn("ConstraintViolationException: {}", message);
         return new ErrorMessage(400, message);
     }
+
+    @ExceptionHandler(WebClientRequestException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorMessage handleWebClientRequestException(WebClientRequestException exception,
+                                                        HttpServletRequest request) {
+        log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
+        String message = String.format("ShareIt server is unavailable: %s", exception.getMostSpecificCause());
+        log.warn("WebClientRequestException: {}", message);
+        return new ErrorMessage(503, message);
+    }
 }
@@ -2,15 +2,18 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.item.dto.CommentDtoRequest;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -18,37 +21,51 @@ public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
         super(builder
-                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .baseUrl(serverUrl + API_PREFIX)
                 .build()
         );
     }
 
-    public ResponseEntity<Object> createItem(ItemDtoRequest itemDtoRequest, Long userId) {
+    public Mono<ResponseEntity<byte[]>> createItem(ItemDtoRequest itemDtoRequest, Long userId) {
         return post("", userId, itemDtoRequest);
     }
 
-    public ResponseEntity<Object> createComment(Long itemId, CommentDtoRequest commentDtoRequest, Long userId) {
+    public Mono<ResponseEntity<byte[]>> createComment(Long itemId, CommentDtoRequest commentDtoRequest, Long userId) {
         return post("/" + itemId + "/comment", userId, commentDtoRequest);
     }
 
-    public ResponseEntity<Object> getItemById(Long id, Long userId) {
+    public Mono<ResponseEntity<byte[]>> getItemById(Long id, Long userId) {
         return get("/" + id, userId);
 
     }
 
-    public ResponseEntity<Object> getAllItemsByOwnerId(Long ownerId) {
-        return get("", ownerId);
+    public Mono<ResponseEntity<byte[]>> getAllItemsByOwnerId(Long ownerId, Integer from, Integer size,
+                                                           @Nullable String cursor) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("from", from);
+        params.put("size", size);
+        if (cursor == null) {
+            return get("?from={from}&size={size}", ownerId, params);
+        }
+        params.put("cursor", cursor);
+        return get("?from={from}&size={size}&cursor={cursor}", ownerId, params);
     }
 
-    public ResponseEntity<Object> updateItem(Long id, ItemDtoRequest itemDtoRequest, Long ownerId) {
+    public Mono<ResponseEntity<Flux<DataBuffer>>> streamAllItemsByOwnerId(Long ownerId) {
+        return stream("/stream", ownerId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> updateItem(Long id, ItemDtoRequest itemDtoRequest, Long ownerId) {
         return patch("/" + id, ownerId, itemDtoRequest);
     }
 
-    public ResponseEntity<Object> getAvailableItemsByText(String text) {
-        Map<String, Object> params = Map.of("text", text);
-        return get("/search?text={text}", null, params);
+    public Mono<ResponseEntity<byte[]>> getAvailableItemsByText(String text, Integer from, Integer size) {
+        Map<String, Object> params = Map.of(
+                "text", text,
+                "from", from,
+                "size", size);
+        return get("/search?text={text}&from={from}&size={size}", null, params);
     }
 }
@@ -2,10 +2,14 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.util.HeaderName;
@@ -13,57 +17,84 @@ import ru.practicum.shareit.validation.groups.OnCreate;
 import ru.practicum.shareit.validation.groups.OnUpdate;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.constraints.Min;
+import java.util.Objects;
 
 @Controller
 @RequestMapping("/items")
 @RequiredArgsConstructor
 @Slf4j
+@Validated
 public class ItemController {
     private final ItemClient itemClient;
 
     @PostMapping
-    public ResponseEntity<Object> createItem(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                             @RequestBody @Validated(OnCreate.class) ItemDtoRequest itemDtoRequest,
-                                             HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> createItem(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                 @RequestBody @Validated(OnCreate.class)
+                                                 ItemDtoRequest itemDtoRequest,
+                                                 HttpServletRequest request) {
         log.debug("{} request {} received: {}", request.getMethod(), request.getRequestURI(), itemDtoRequest);
         return itemClient.createItem(itemDtoRequest, userId);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> createComment(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                @PathVariable Long itemId, HttpServletRequest request,
-                                                @RequestBody @Validated(OnCreate.class) CommentDtoRequest commentDtoRequest) {
+    public Mono<ResponseEntity<byte[]>> createComment(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                    @PathVariable Long itemId, HttpServletRequest request,
+                                                    @RequestBody @Validated(OnCreate.class)
+                                                    CommentDtoRequest commentDtoRequest) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return itemClient.createComment(itemId, commentDtoRequest, userId);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getItemById(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                              @PathVariable Long id,
-                                              HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> getItemById(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                  @PathVariable Long id,
+                                                  HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return itemClient.getItemById(id, userId);
     }
 
     @GetMapping()
-    public ResponseEntity<Object> getAllItemsByOwnerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
-                                                       HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> getAllItemsByOwnerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
+                                                           @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                                                           @RequestParam(defaultValue = "100") @Min(1) Integer size,
+                                                           @RequestParam(required = false) String cursor,
+                                                           HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        return itemClient.getAllItemsByOwnerId(ownerId, from, size, cursor);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<ResponseEntity<StreamingResponseBody>> streamAllItemsByOwnerId(
+            @RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
+            HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return itemClient.getAllItemsByOwnerId(ownerId);
+        return itemClient.streamAllItemsByOwnerId(ownerId)
+                .map(response -> ResponseEntity.status(response.getStatusCodeValue())
+                        .headers(response.getHeaders())
+                        .body(outputStream -> DataBufferUtils
+                                .write(Objects.requireNonNull(response.getBody()), outputStream)
+                                .map(DataBufferUtils::release)
+                                .then()
+                                .block()));
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> updateItem(@RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
-                                             @PathVariable Long id,
-                                             @RequestBody @Validated(OnUpdate.class) ItemDtoRequest itemDtoRequest,
-                                             HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> updateItem(@RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
+                                                 @PathVariable Long id,
+                                                 @RequestBody @Validated(OnUpdate.class)
+                                                 ItemDtoRequest itemDtoRequest,
+                                                 HttpServletRequest request) {
         log.debug("{} request {} received: {}", request.getMethod(), request.getRequestURI(), itemDtoRequest);
         return itemClient.updateItem(id, itemDtoRequest, ownerId);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> getAvailableItemsByText(@RequestParam String text, HttpServletRequest request) {
-        log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return itemClient.getAvailableItemsByText(text);
+    public Mono<ResponseEntity<byte[]>> getAvailableItemsByText(@RequestParam String text,
+                                                              @RequestParam(defaultValue = "0") @Min(0) Integer from,
+                                                              @RequestParam(defaultValue = "100") @Min(1) Integer size,
+                                                              HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        return itemClient.getAvailableItemsByText(text, from, size);
     }
 }
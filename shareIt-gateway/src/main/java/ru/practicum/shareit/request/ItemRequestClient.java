@@ -2,11 +2,10 @@ package ru.practicum.shareit.request;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.request.dto.ItemRequestDtoIn;
 
@@ -17,30 +16,29 @@ public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
         super(builder
-                .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(HttpComponentsClientHttpRequestFactory::new)
+                .baseUrl(serverUrl + API_PREFIX)
                 .build()
         );
     }
 
-    public ResponseEntity<Object> createItemRequest(ItemRequestDtoIn itemRequestDtoIn, Long userId) {
+    public Mono<ResponseEntity<byte[]>> createItemRequest(ItemRequestDtoIn itemRequestDtoIn, Long userId) {
         return post("", userId, itemRequestDtoIn);
     }
 
-    public ResponseEntity<Object> getAllOwnItemRequests(Long userId) {
+    public Mono<ResponseEntity<byte[]>> getAllOwnItemRequests(Long userId) {
         return get("", userId);
     }
 
-    public ResponseEntity<Object> getAllNotOwnItemRequests(Long userId, Integer from, Integer size) {
+    public Mono<ResponseEntity<byte[]>> getAllNotOwnItemRequests(Long userId, Integer from, Integer size) {
         Map<String, Object> params = Map.of(
                 "from", from,
                 "size", size);
         return get("/all?from={from}&size={size}", userId, params);
     }
 
-    public ResponseEntity<Object> getItemRequestById(Long id, Long userId) {
+    public Mono<ResponseEntity<byte[]>> getItemRequestById(Long id, Long userId) {
         return get("/" + id, userId);
     }
 }
@@ -0,0 +1,67 @@
+package ru.practicum.shareit.trace;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceFilter extends OncePerRequestFilter {
+    private static final String SPAN_NAME_PREFIX = "gateway.request ";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Span span = Span.startFromTraceparent(SPAN_NAME_PREFIX + request.getMethod() + " " + request.getRequestURI(),
+                request.getHeader(Span.TRACEPARENT)).makeCurrent();
+        response.setHeader(Span.TRACEPARENT, span.toTraceparent());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                span.detach();
+                request.getAsyncContext().addListener(new SpanEndingListener(span, response));
+            } else {
+                span.end(String.valueOf(response.getStatus()));
+            }
+        }
+    }
+
+    private static class SpanEndingListener implements AsyncListener {
+        private final Span span;
+        private final HttpServletResponse response;
+
+        SpanEndingListener(Span span, HttpServletResponse response) {
+            this.span = span;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            span.end(String.valueOf(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            span.end("timeout");
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            span.end("error");
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.validation.groups.OnCreate;
 import ru.practicum.shareit.validation.groups.OnUpdate;
@@ -20,34 +21,34 @@ public class UserController {
     private final UserClient userClient;
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@RequestBody @Validated(OnCreate.class) UserDto userDto,
-                                             HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> createUser(@RequestBody @Validated(OnCreate.class) UserDto userDto,
+                                                 HttpServletRequest request) {
         log.debug("{} request {} received: {}", request.getMethod(), request.getRequestURI(), userDto);
         return userClient.createUser(userDto);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getUserById(@PathVariable Long id, HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> getUserById(@PathVariable Long id, HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return userClient.getUserById(id);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers(HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> getAllUsers(HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return userClient.getAllUsers();
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Object> updateUser(@PathVariable Long id,
-                                             @RequestBody @Validated(OnUpdate.class) UserDto userDto,
-                                             HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> updateUser(@PathVariable Long id,
+                                                 @RequestBody @Validated(OnUpdate.class) UserDto userDto,
+                                                 HttpServletRequest request) {
         log.debug("{} request {} received: {}", request.getMethod(), request.getRequestURI(), userDto);
         return userClient.updateUser(id, userDto);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Object> deleteUser(@PathVariable Long id, HttpServletRequest request) {
+    public Mono<ResponseEntity<byte[]>> deleteUser(@PathVariable Long id, HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return userClient.deleteUser(id);
     }
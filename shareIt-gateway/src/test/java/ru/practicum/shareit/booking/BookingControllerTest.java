@@ -6,21 +6,34 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingBatchDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
+import ru.practicum.shareit.booking.dto.BookingFilter;
 import ru.practicum.shareit.booking.state.BookingState;
 import ru.practicum.shareit.util.Constants;
 
+import java.net.ConnectException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = BookingController.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -44,6 +57,50 @@ class BookingControllerTest {
         verify(bookingClient, never()).createBooking(any(BookingDtoRequest.class), anyLong());
     }
 
+    @Test
+    void createBookings_whenEntryHasNoStartDate_thenReturnIsBadRequest() throws Exception {
+        BookingDtoRequest validEntry = BookingDtoRequest.builder()
+                .itemId(1L)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+        BookingDtoRequest invalidEntry = BookingDtoRequest.builder()
+                .itemId(2L)
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+        BookingBatchDtoRequest dtoRequest = new BookingBatchDtoRequest(List.of(validEntry, invalidEntry));
+        mockMvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", 2)
+                        .content(mapper.writeValueAsString(dtoRequest))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode", is(400)))
+                .andExpect(jsonPath("$.error", is("The start date of the booking must not be null")));
+        verify(bookingClient, never()).createBookings(any(BookingBatchDtoRequest.class), anyLong());
+    }
+
+    @Test
+    void createBookings_whenBatchIsTooLarge_thenReturnIsBadRequest() throws Exception {
+        BookingDtoRequest entry = BookingDtoRequest.builder()
+                .itemId(1L)
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .build();
+        BookingBatchDtoRequest dtoRequest = new BookingBatchDtoRequest(
+                Collections.nCopies(BookingBatchDtoRequest.MAX_SIZE + 1, entry));
+        mockMvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", 2)
+                        .content(mapper.writeValueAsString(dtoRequest))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode", is(400)));
+        verify(bookingClient, never()).createBookings(any(BookingBatchDtoRequest.class), anyLong());
+    }
+
     @Test
     void getBookingById_whenXSharerUserIdIsAbsent_thenReturnIsBadRequest() throws Exception {
         mockMvc.perform(get("/bookings/5"))
@@ -53,13 +110,27 @@ class BookingControllerTest {
         verify(bookingClient, never()).getBookingById(anyLong(), anyLong());
     }
 
+    @Test
+    void getBookingById_whenServerIsUnavailable_thenReturnIsServiceUnavailable() throws Exception {
+        when(bookingClient.getBookingById(1L, 2L)).thenReturn(Mono.error(new WebClientRequestException(
+                new ConnectException("Connection refused"), HttpMethod.GET, URI.create("http://server/bookings/1"),
+                new HttpHeaders())));
+        MvcResult result = mockMvc.perform(get("/bookings/1")
+                        .header("X-Sharer-User-Id", 2))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.statusCode", is(503)));
+    }
+
     @Test
     void getAllByBookerId_whenXSharerUserIdIsAbsent_thenReturnIsBadRequest() throws Exception {
         mockMvc.perform(get("/bookings"))
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.statusCode", is(400)))
                 .andExpect(jsonPath("$.error", is(Constants.H_SHARER_USER_ID_IS_ABSENT_MESSAGE)));
-        verify(bookingClient, never()).getAllByBookerId(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -68,7 +139,8 @@ class BookingControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.statusCode", is(400)))
                 .andExpect(jsonPath("$.error", is(Constants.H_SHARER_USER_ID_IS_ABSENT_MESSAGE)));
-        verify(bookingClient, never()).getAllByItemOwnerId(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getAllByItemOwnerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt(),
+                any());
     }
 
     @Test
@@ -79,7 +151,37 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.statusCode", is(400)))
                 .andExpect(jsonPath("$.error", is("getAllByItemOwnerId.size: must be" +
                         " greater than or equal to 1")));
-        verify(bookingClient, never()).getAllByItemOwnerId(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getAllByItemOwnerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt(),
+                any());
+    }
+
+    @Test
+    void getAllByItemOwnerId_whenItemAndDateRangeParamsArePresent_thenPassThemInFilter() throws Exception {
+        BookingFilter filter = BookingFilter.builder()
+                .state(BookingState.WAITING)
+                .itemId(3L)
+                .rangeStart(LocalDateTime.of(2030, 1, 1, 10, 0))
+                .rangeEnd(LocalDateTime.of(2030, 1, 2, 10, 0))
+                .build();
+        when(bookingClient.getAllByItemOwnerId(2L, filter, 0, 100, null))
+                .thenReturn(Mono.just(ResponseEntity.ok().build()));
+        MvcResult result = mockMvc.perform(get("/bookings/owner?state=WAITING&itemId=3" +
+                        "&rangeStart=2030-01-01T10:00:00&rangeEnd=2030-01-02T10:00:00")
+                        .header("X-Sharer-User-Id", 2))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        verify(bookingClient).getAllByItemOwnerId(2L, filter, 0, 100, null);
+    }
+
+    @Test
+    void getAllByBookerId_whenRangeStartIsNotDate_thenReturnIsBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings?rangeStart=tomorrow")
+                        .header("X-Sharer-User-Id", 2))
+                .andExpect(status().isBadRequest());
+        verify(bookingClient, never()).getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt(),
+                any());
     }
 
     @Test
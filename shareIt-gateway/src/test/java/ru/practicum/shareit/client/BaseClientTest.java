@@ -0,0 +1,128 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.trace.Span;
+import ru.practicum.shareit.user.UserClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaseClientTest {
+    private static final String USERS_JSON = "[{\"id\":1,\"name\":\"Name1\"},{\"id\":2,\"name\":\"Name2\"}]";
+    private static final String ERROR_JSON = "{\"statusCode\":404,\"error\":\"User with id=9 not found\"}";
+    private static final String ITEMS_NDJSON = "{\"id\":1}\n{\"id\":2}\n";
+
+    private DisposableServer server;
+    private UserClient userClient;
+    private ItemClient itemClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/users", (request, response) -> response
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .header("X-Next-Cursor", "Mg")
+                                .chunkedTransfer(true)
+                                .sendString(Flux.just(USERS_JSON.substring(0, 10), USERS_JSON.substring(10))))
+                        .get("/users/9", (request, response) -> response
+                                .status(HttpStatus.NOT_FOUND.value())
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Flux.just(ERROR_JSON)))
+                        .get("/items/stream", (request, response) -> "1".equals(request.requestHeaders()
+                                .get("X-Sharer-User-Id"))
+                                ? response.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                                .sendString(Flux.just(ITEMS_NDJSON.substring(0, 9), ITEMS_NDJSON.substring(9)))
+                                : response.status(HttpStatus.NOT_FOUND.value())
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .sendString(Flux.just(ERROR_JSON)))
+                        .get("/users/1", (request, response) -> response
+                                .header(Span.TRACEPARENT, request.requestHeaders().get(Span.TRACEPARENT))
+                                .send()))
+                .bindNow();
+        userClient = new UserClient("http://localhost:" + server.port(), WebClient.builder());
+        itemClient = new ItemClient("http://localhost:" + server.port(), WebClient.builder());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void get_whenServerRespondsOk_thenPassBodyBytesAndHeadersThrough() {
+        ResponseEntity<byte[]> response = userClient.getAllUsers().block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo(USERS_JSON);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("Mg");
+        assertThat(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)).isFalse();
+    }
+
+    @Test
+    void get_whenServerRespondsNotFound_thenPassErrorThrough() {
+        ResponseEntity<byte[]> response = userClient.getUserById(9L).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo(ERROR_JSON);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void get_whenCalled_thenTraceparentIsPropagatedToServer() {
+        ResponseEntity<byte[]> response = userClient.getUserById(1L).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getHeaders().getFirst(Span.TRACEPARENT)).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+    }
+
+    @Test
+    void stream_whenServerRespondsOk_thenResolveStatusAndStreamBody() {
+        ResponseEntity<Flux<DataBuffer>> response = itemClient.streamAllItemsByOwnerId(1L).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)).isFalse();
+        assertThat(readBody(response)).isEqualTo(ITEMS_NDJSON);
+    }
+
+    @Test
+    void stream_whenServerRespondsNotFound_thenPassErrorThroughBeforeStreaming() {
+        ResponseEntity<Flux<DataBuffer>> response = itemClient.streamAllItemsByOwnerId(9L).block();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(readBody(response)).isEqualTo(ERROR_JSON);
+    }
+
+    private static String readBody(ResponseEntity<Flux<DataBuffer>> response) {
+        return DataBufferUtils.join(Objects.requireNonNull(response.getBody()))
+                .map(buffer -> {
+                    String body = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return body;
+                })
+                .block();
+    }
+}
@@ -0,0 +1,33 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import ru.practicum.shareit.user.UserClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "shareit-server.url=http://localhost:1",
+        "shareit-server.http-client.max-connections=7"
+})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class HttpClientConfigTest {
+    private final UserClient userClient;
+    private final MeterRegistry meterRegistry;
+
+    @Test
+    void clients_shouldShareOnePoolWithConfiguredLimitAndMetrics() {
+        assertThatThrownBy(() -> userClient.getAllUsers().block())
+                .isInstanceOf(WebClientRequestException.class);
+
+        assertThat(meterRegistry.get("reactor.netty.connection.provider.max.connections")
+                .tag("name", "shareit-server")
+                .gauge()
+                .value()).isEqualTo(7);
+    }
+}
@@ -6,22 +6,32 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDtoRequest;
 import ru.practicum.shareit.item.dto.ItemDtoRequest;
 import ru.practicum.shareit.util.Constants;
 
 import java.nio.charset.StandardCharsets;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = ItemController.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -90,7 +100,80 @@ class ItemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.statusCode", is(400)))
                 .andExpect(jsonPath("$.error", is(Constants.H_SHARER_USER_ID_IS_ABSENT_MESSAGE)));
-        verify(itemClient, never()).getAllItemsByOwnerId(anyLong());
+        verify(itemClient, never()).getAllItemsByOwnerId(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void getAllItemsByOwnerId_whenServerResponds_thenPassResponseThrough() throws Exception {
+        when(itemClient.getAllItemsByOwnerId(3L, 0, 2, null)).thenReturn(Mono.just(ResponseEntity.ok()
+                .header("X-Next-Cursor", "Mg")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body("[{\"id\":1},{\"id\":2}]".getBytes(StandardCharsets.UTF_8))));
+        MvcResult result = mockMvc.perform(get("/items?from=0&size=2")
+                        .header("X-Sharer-User-Id", 3))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "Mg"))
+                .andExpect(jsonPath("$[1].id", is(2)));
+    }
+
+    @Test
+    void getAllItemsByOwnerId_whenFromIsNegative_thenReturnIsBadRequest() throws Exception {
+        mockMvc.perform(get("/items?from=-1&size=10")
+                        .header("X-Sharer-User-Id", 3))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode", is(400)));
+        verify(itemClient, never()).getAllItemsByOwnerId(anyLong(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void streamAllItemsByOwnerId_whenXSharerUserIdIsAbsent_thenReturnIsBadRequest() throws Exception {
+        mockMvc.perform(get("/items/stream"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode", is(400)))
+                .andExpect(jsonPath("$.error", is(Constants.H_SHARER_USER_ID_IS_ABSENT_MESSAGE)));
+        verify(itemClient, never()).streamAllItemsByOwnerId(anyLong());
+    }
+
+    @Test
+    void streamAllItemsByOwnerId_whenServerRespondsNotFound_thenReturnServerErrorUnchanged() throws Exception {
+        String errorJson = "{\"statusCode\":404,\"error\":\"There is no user with id=9 in the database\"}";
+        DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(errorJson.getBytes(StandardCharsets.UTF_8));
+        when(itemClient.streamAllItemsByOwnerId(9L)).thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(body))));
+        MvcResult result = mockMvc.perform(get("/items/stream")
+                        .header("X-Sharer-User-Id", 9))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streamed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+        streamed.getAsyncResult();
+        assertThat(streamed.getResponse().getContentAsString()).isEqualTo(errorJson);
+    }
+
+    @Test
+    void streamAllItemsByOwnerId_whenServerRespondsOk_thenStreamItems() throws Exception {
+        String items = "{\"id\":1}\n{\"id\":2}\n";
+        Flux<DataBuffer> body = Flux.just("{\"id\":1}\n", "{\"id\":2}\n")
+                .map(line -> DefaultDataBufferFactory.sharedInstance.wrap(line.getBytes(StandardCharsets.UTF_8)));
+        when(itemClient.streamAllItemsByOwnerId(1L)).thenReturn(Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body)));
+        MvcResult result = mockMvc.perform(get("/items/stream")
+                        .header("X-Sharer-User-Id", 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streamed = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+        streamed.getAsyncResult();
+        assertThat(streamed.getResponse().getContentAsString()).isEqualTo(items);
     }
 
     @Test
@@ -107,6 +190,15 @@ class ItemControllerTest {
         verify(itemClient, never()).updateItem(anyLong(), any(ItemDtoRequest.class), anyLong());
     }
 
+    @Test
+    void getAvailableItemsByText_whenSizeIsZero_thenReturnIsBadRequest() throws Exception {
+        mockMvc.perform(get("/items/search?text=Hummer&from=0&size=0")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode", is(400)));
+        verify(itemClient, never()).getAvailableItemsByText(anyString(), anyInt(), anyInt());
+    }
+
     ItemDtoRequest createDtoRequest(String name, String description) {
         return ItemDtoRequest.builder()
                 .name(name)
@@ -0,0 +1,170 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingInsertDriver {
+    private static final String SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final String CREATED_BOOKING_MARKER = "\"booking\":{";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final int START_OFFSET_DAYS = 1000;
+    private final LoadTestProperties properties;
+
+    public InsertReport run(long firstUserId, int userCount, List<BookableItem> items) throws InterruptedException {
+        LoadTestProperties.Insert insert = properties.getInsert();
+        Random random = new Random(properties.getRandomSeed());
+        LocalDateTime firstStart = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusDays(START_OFFSET_DAYS);
+        List<BookingGroup> warmup = createGroups(insert.getWarmupBookings(), firstUserId, userCount, items, random,
+                firstStart);
+        List<BookingGroup> measured = createGroups(insert.getBookings(), firstUserId, userCount, items, random,
+                firstStart.plusHours(insert.getWarmupBookings()));
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(insert.getRequestTimeout()).build();
+        List<InsertReport.ModeResult> results = new ArrayList<>();
+        for (InsertReport.Mode mode : InsertReport.Mode.values()) {
+            execute(httpClient, mode, warmup);
+            results.add(execute(httpClient, mode, measured));
+        }
+        return new InsertReport(results);
+    }
+
+    private List<BookingGroup> createGroups(int bookings, long firstUserId, int userCount, List<BookableItem> items,
+                                            Random random, LocalDateTime firstStart) {
+        int batchSize = properties.getInsert().getBatchSize();
+        List<BookingGroup> groups = new ArrayList<>();
+        for (int created = 0; created < bookings; ) {
+            long bookerId = firstUserId + random.nextInt(userCount);
+            List<String> entries = new ArrayList<>(batchSize);
+            while (entries.size() < batchSize && created < bookings) {
+                BookableItem item = pickItemNotOwnedBy(bookerId, items, random);
+                LocalDateTime start = firstStart.plusHours(created);
+                entries.add(String.format("{\"itemId\":%d,\"start\":\"%s\",\"end\":\"%s\"}", item.getId(),
+                        start.format(DATE_FORMAT), start.plusMinutes(30).format(DATE_FORMAT)));
+                created++;
+            }
+            groups.add(new BookingGroup(bookerId, entries));
+        }
+        return groups;
+    }
+
+    private static BookableItem pickItemNotOwnedBy(long bookerId, List<BookableItem> items, Random random) {
+        int index = random.nextInt(items.size());
+        for (int attempt = 0; attempt < items.size(); attempt++) {
+            BookableItem item = items.get((index + attempt) % items.size());
+            if (item.getOwnerId() != bookerId) {
+                return item;
+            }
+        }
+        throw new IllegalStateException(String.format("User with id=%d owns every available item", bookerId));
+    }
+
+    private InsertReport.ModeResult execute(HttpClient httpClient, InsertReport.Mode mode, List<BookingGroup> groups)
+            throws InterruptedException {
+        List<HttpRequest> requests = groups.stream()
+                .flatMap(group -> buildRequests(mode, group).stream())
+                .collect(Collectors.toList());
+        LongAdder createdBookings = new LongAdder();
+        LongAdder failedRequests = new LongAdder();
+        Function<HttpResponse<String>, Long> countCreated = (mode == InsertReport.Mode.SINGLE)
+                ? response -> 1L
+                : response -> countOccurrences(response.body(), CREATED_BOOKING_MARKER);
+
+        ExecutorService workers = Executors.newFixedThreadPool(properties.getInsert().getConcurrency());
+        long start = System.nanoTime();
+        for (HttpRequest request : requests) {
+            workers.execute(() -> {
+                HttpResponse<String> response = send(httpClient, request);
+                if (response == null || response.statusCode() >= 400) {
+                    failedRequests.increment();
+                } else {
+                    createdBookings.add(countCreated.apply(response));
+                }
+            });
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(1, TimeUnit.HOURS)) {
+            workers.shutdownNow();
+            log.warn("Insert workers did not finish in time and were interrupted");
+        }
+        double durationSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long bookings = groups.stream().mapToLong(group -> group.getEntries().size()).sum();
+        return new InsertReport.ModeResult(mode, bookings, createdBookings.sum(), requests.size(),
+                failedRequests.sum(), durationSeconds);
+    }
+
+    private List<HttpRequest> buildRequests(InsertReport.Mode mode, BookingGroup group) {
+        if (mode == InsertReport.Mode.BATCH) {
+            String body = group.getEntries().stream().collect(Collectors.joining(",", "{\"bookings\":[", "]}"));
+            return List.of(buildRequest("/bookings/batch", group.getBookerId(), body));
+        }
+        return group.getEntries().stream()
+                .map(entry -> buildRequest("/bookings", group.getBookerId(), entry))
+                .collect(Collectors.toList());
+    }
+
+    private HttpRequest buildRequest(String path, long bookerId, String body) {
+        return HttpRequest.newBuilder(URI.create(properties.getGatewayUrl() + path))
+                .timeout(properties.getInsert().getRequestTimeout())
+                .header(SHARER_USER_ID, String.valueOf(bookerId))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpResponse<String> send(HttpClient httpClient, HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            log.debug("Request {} failed: {}", request.uri(), e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static long countOccurrences(String text, String marker) {
+        long count = 0;
+        for (int index = text.indexOf(marker); index >= 0; index = text.indexOf(marker, index + marker.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class BookableItem {
+        private final long id;
+        private final long ownerId;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class BookingGroup {
+        private final long bookerId;
+        private final List<String> entries;
+    }
+}
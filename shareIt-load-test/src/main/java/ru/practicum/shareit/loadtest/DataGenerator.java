@@ -0,0 +1,143 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DataGenerator {
+    private static final String INSERT_USER = "INSERT INTO users (id, name, email) VALUES (?, ?, ?)";
+    private static final String INSERT_ITEM_REQUEST =
+            "INSERT INTO item_requests (id, description, requester_id, date_created) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_ITEM =
+            "INSERT INTO items (id, name, description, available, owner_id, request_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_BOOKING =
+            "INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMMENT =
+            "INSERT INTO comments (id, comment_text, item_id, author_id, date_created) VALUES (?, ?, ?, ?, ?)";
+    private static final List<String> TABLES = List.of("users", "item_requests", "items", "bookings", "comments");
+    private static final int PAST_DAYS = 365;
+    private static final int FUTURE_DAYS = 90;
+    private static final int MAX_BOOKING_DAYS = 14;
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestProperties properties;
+
+    public void generate() {
+        LoadTestProperties.Data data = properties.getData();
+        Random random = new Random(properties.getRandomSeed());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ZipfDistribution popularUsers = new ZipfDistribution(data.getUsers(), properties.getZipfExponent());
+        ZipfDistribution popularItems = new ZipfDistribution(data.getItems(), properties.getZipfExponent());
+
+        long firstUserId = nextId("users");
+        insertUsers(firstUserId, data.getUsers());
+
+        long firstRequestId = nextId("item_requests");
+        List<Object[]> requests = new ArrayList<>(data.getItemRequests());
+        for (int i = 0; i < data.getItemRequests(); i++) {
+            long requesterId = firstUserId + random.nextInt(data.getUsers());
+            requests.add(new Object[]{firstRequestId + i, "Need a " + Vocabulary.randomTool(random).toLowerCase(),
+                    requesterId, Timestamp.valueOf(now.minusMinutes(random.nextInt(PAST_DAYS * 24 * 60)))});
+        }
+        batchInsert(INSERT_ITEM_REQUEST, requests);
+
+        long firstItemId = nextId("items");
+        long[] itemOwners = new long[data.getItems()];
+        List<Object[]> items = new ArrayList<>(data.getItems());
+        for (int i = 0; i < data.getItems(); i++) {
+            long itemId = firstItemId + i;
+            itemOwners[i] = firstUserId + popularUsers.sample(random);
+            String tool = Vocabulary.randomTool(random);
+            Long requestId = (data.getItemRequests() > 0 && random.nextDouble() < data.getRequestedItemShare())
+                    ? firstRequestId + random.nextInt(data.getItemRequests()) : null;
+            items.add(new Object[]{itemId, tool + " " + itemId,
+                    String.format("%s in good condition, item #%d", tool, itemId),
+                    random.nextDouble() >= data.getUnavailableItemShare(), itemOwners[i], requestId});
+        }
+        batchInsert(INSERT_ITEM, items);
+
+        long firstBookingId = nextId("bookings");
+        long firstCommentId = nextId("comments");
+        List<Object[]> bookings = new ArrayList<>(data.getBookings());
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 0; i < data.getBookings(); i++) {
+            int itemIndex = popularItems.sample(random);
+            long bookerId = firstUserId + random.nextInt(data.getUsers());
+            if (bookerId == itemOwners[itemIndex]) {
+                bookerId = firstUserId + (bookerId - firstUserId + 1) % data.getUsers();
+            }
+            LocalDateTime start = now.plusMinutes(random.nextInt((PAST_DAYS + FUTURE_DAYS) * 24 * 60)
+                    - (long) PAST_DAYS * 24 * 60);
+            LocalDateTime end = start.plus(Duration.ofDays(1 + random.nextInt(MAX_BOOKING_DAYS)));
+            String status = randomStatus(random, start.isBefore(now));
+            bookings.add(new Object[]{firstBookingId + i, Timestamp.valueOf(start), Timestamp.valueOf(end),
+                    firstItemId + itemIndex, bookerId, status});
+            if (end.isBefore(now) && "APPROVED".equals(status) && random.nextDouble() < data.getCommentProbability()) {
+                comments.add(new Object[]{firstCommentId + comments.size(), "Worked fine, thanks!",
+                        firstItemId + itemIndex, bookerId, Timestamp.valueOf(end.plusHours(1))});
+            }
+        }
+        batchInsert(INSERT_BOOKING, bookings);
+        batchInsert(INSERT_COMMENT, comments);
+
+        TABLES.forEach(this::syncSequence);
+        log.info("Generated {} users, {} item requests, {} items, {} bookings and {} comments", data.getUsers(),
+                requests.size(), items.size(), bookings.size(), comments.size());
+    }
+
+    private void insertUsers(long firstUserId, int count) {
+        List<Object[]> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long userId = firstUserId + i;
+            users.add(new Object[]{userId, "User" + userId, String.format("user%d@load.test", userId)});
+        }
+        batchInsert(INSERT_USER, users);
+    }
+
+    private static String randomStatus(Random random, boolean started) {
+        double value = random.nextDouble();
+        if (started) {
+            return (value < 0.85) ? "APPROVED" : (value < 0.95) ? "REJECTED" : "CANCELED";
+        }
+        return (value < 0.5) ? "APPROVED" : (value < 0.9) ? "WAITING" : "REJECTED";
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject(String.format("SELECT COALESCE(MAX(id), 0) FROM %s", table),
+                Long.class);
+        return (maxId == null) ? 1 : maxId + 1;
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        int batchSize = properties.getData().getBatchSize();
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + batchSize, rows.size())));
+        }
+    }
+
+    private void syncSequence(String table) {
+        long nextId = nextId(table);
+        if (isPostgres()) {
+            jdbcTemplate.queryForObject(String.format("SELECT setval('%s_seq', %d, false)", table, nextId), Long.class);
+        } else {
+            jdbcTemplate.execute(String.format("ALTER SEQUENCE %s_seq RESTART WITH %d", table, nextId));
+        }
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().startsWith("PostgreSQL")));
+    }
+}
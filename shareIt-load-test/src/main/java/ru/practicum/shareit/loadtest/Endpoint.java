@@ -0,0 +1,9 @@
+package ru.practicum.shareit.loadtest;
+
+public enum Endpoint {
+    BOOKINGS,
+    BOOKINGS_OWNER,
+    ITEMS,
+    ITEMS_SEARCH,
+    REQUESTS_ALL
+}
@@ -0,0 +1,75 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public class InsertReport {
+    private static final String CSV_HEADER = "mode,bookings,created,requests,failed_requests,duration_s,bookings_per_s";
+    private final List<ModeResult> results;
+
+    public double getSpeedup() {
+        double single = findThroughput(Mode.SINGLE);
+        return (single == 0) ? 0 : findThroughput(Mode.BATCH) / single;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%n%-8s %10s %10s %10s %8s %10s %14s%n",
+                "mode", "bookings", "created", "requests", "failed", "seconds", "bookings/s"));
+        for (ModeResult result : results) {
+            table.append(String.format(Locale.ROOT, "%-8s %10d %10d %10d %8d %10.2f %14.1f%n", result.getMode(),
+                    result.getBookings(), result.getCreated(), result.getRequests(), result.getFailedRequests(),
+                    result.getDurationSeconds(), result.getThroughput()));
+        }
+        table.append(String.format(Locale.ROOT, "batch speedup: %.2fx%n", getSpeedup()));
+        return table.toString();
+    }
+
+    public void writeCsv(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (ModeResult result : results) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%.3f,%.1f", result.getMode(), result.getBookings(),
+                    result.getCreated(), result.getRequests(), result.getFailedRequests(),
+                    result.getDurationSeconds(), result.getThroughput()));
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+
+    private double findThroughput(Mode mode) {
+        return results.stream()
+                .filter(result -> result.getMode() == mode)
+                .mapToDouble(ModeResult::getThroughput)
+                .findFirst()
+                .orElse(0);
+    }
+
+    public enum Mode {
+        SINGLE,
+        BATCH
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ModeResult {
+        private final Mode mode;
+        private final long bookings;
+        private final long created;
+        private final long requests;
+        private final long failedRequests;
+        private final double durationSeconds;
+
+        public double getThroughput() {
+            return (durationSeconds == 0) ? 0 : created / durationSeconds;
+        }
+    }
+}
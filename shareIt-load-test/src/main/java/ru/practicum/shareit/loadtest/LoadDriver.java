@@ -0,0 +1,158 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadDriver {
+    private static final String SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+    private final LoadTestProperties properties;
+
+    public LoadReport run(long firstUserId, int userCount) throws InterruptedException {
+        LoadTestProperties.Load load = properties.getLoad();
+        List<Endpoint> endpoints = new ArrayList<>();
+        List<Integer> cumulativeWeights = new ArrayList<>();
+        int totalWeight = 0;
+        for (Map.Entry<Endpoint, Integer> entry : new EnumMap<>(load.getMix()).entrySet()) {
+            if (entry.getValue() > 0) {
+                totalWeight += entry.getValue();
+                endpoints.add(entry.getKey());
+                cumulativeWeights.add(totalWeight);
+            }
+        }
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("Load mix does not contain any endpoint with a positive weight");
+        }
+        Map<Endpoint, EndpointRecorder> recorders = new EnumMap<>(Endpoint.class);
+        endpoints.forEach(endpoint -> recorders.put(endpoint, new EndpointRecorder()));
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(load.getRequestTimeout()).build();
+        ZipfDistribution activeUsers = new ZipfDistribution(userCount, properties.getZipfExponent());
+        long warmupEnd = System.nanoTime() + load.getWarmup().toNanos();
+        long end = warmupEnd + load.getDuration().toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(load.getConcurrency());
+        for (int worker = 0; worker < load.getConcurrency(); worker++) {
+            Random random = new Random(properties.getRandomSeed() + worker);
+            int weight = totalWeight;
+            workers.execute(() -> {
+                while (System.nanoTime() < end) {
+                    Endpoint endpoint = pickEndpoint(endpoints, cumulativeWeights, random.nextInt(weight));
+                    long userId = firstUserId + activeUsers.sample(random);
+                    HttpRequest request = HttpRequest.newBuilder(buildUri(endpoint, random))
+                            .timeout(load.getRequestTimeout())
+                            .header(SHARER_USER_ID, String.valueOf(userId))
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    boolean success = send(httpClient, request);
+                    if (start >= warmupEnd) {
+                        recorders.get(endpoint).record(System.nanoTime() - start, success);
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        long timeoutNanos = end - System.nanoTime() + load.getRequestTimeout().toNanos() * 2;
+        if (!workers.awaitTermination(timeoutNanos, TimeUnit.NANOSECONDS)) {
+            workers.shutdownNow();
+            log.warn("Load workers did not finish in time and were interrupted");
+        }
+
+        double durationSeconds = load.getDuration().toMillis() / 1000.0;
+        List<LoadReport.EndpointResult> results = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> results.add(recorder.toResult(endpoint, durationSeconds)));
+        return new LoadReport(load.getThreadMode(), results);
+    }
+
+    private static Endpoint pickEndpoint(List<Endpoint> endpoints, List<Integer> cumulativeWeights, int value) {
+        for (int i = 0; i < endpoints.size(); i++) {
+            if (value < cumulativeWeights.get(i)) {
+                return endpoints.get(i);
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private URI buildUri(Endpoint endpoint, Random random) {
+        String page = "from=0&size=" + properties.getLoad().getPageSize();
+        String path;
+        switch (endpoint) {
+            case BOOKINGS:
+                path = "/bookings?state=ALL&" + page;
+                break;
+            case BOOKINGS_OWNER:
+                path = "/bookings/owner?state=ALL&" + page;
+                break;
+            case ITEMS:
+                path = "/items?" + page;
+                break;
+            case ITEMS_SEARCH:
+                String text = URLEncoder.encode(Vocabulary.randomTool(random).toLowerCase(), StandardCharsets.UTF_8);
+                path = "/items/search?text=" + text + "&" + page;
+                break;
+            default:
+                path = "/requests/all?" + page;
+        }
+        return URI.create(properties.getGatewayUrl() + path);
+    }
+
+    private static boolean send(HttpClient httpClient, HttpRequest request) {
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            log.debug("Request {} failed: {}", request.uri(), e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class EndpointRecorder {
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long durationNanos, boolean success) {
+            latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(durationNanos), HIGHEST_TRACKABLE_MICROS));
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        LoadReport.EndpointResult toResult(Endpoint endpoint, double durationSeconds) {
+            long requests = latencies.getTotalCount();
+            return new LoadReport.EndpointResult(endpoint, requests, errors.sum(), requests / durationSeconds,
+                    toMillis(latencies.getValueAtPercentile(50)), toMillis(latencies.getValueAtPercentile(90)),
+                    toMillis(latencies.getValueAtPercentile(99)), toMillis(latencies.getValueAtPercentile(99.9)),
+                    toMillis(latencies.getMaxValue()));
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public class LoadReport {
+    private static final String CSV_HEADER =
+            "thread_mode,endpoint,requests,errors,throughput_rps,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+    private final ThreadMode threadMode;
+    private final List<EndpointResult> results;
+
+    public static LoadReport readCsv(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(CSV_HEADER)) {
+            throw new IllegalArgumentException(String.format("File %s is not a load test report", path));
+        }
+        ThreadMode threadMode = null;
+        List<EndpointResult> results = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] columns = line.split(",");
+            threadMode = ThreadMode.valueOf(columns[0]);
+            results.add(new EndpointResult(Endpoint.valueOf(columns[1]), Long.parseLong(columns[2]),
+                    Long.parseLong(columns[3]), Double.parseDouble(columns[4]), Double.parseDouble(columns[5]),
+                    Double.parseDouble(columns[6]), Double.parseDouble(columns[7]), Double.parseDouble(columns[8]),
+                    Double.parseDouble(columns[9])));
+        }
+        return new LoadReport(threadMode, results);
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%n%-16s %10s %8s %12s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "rps",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (EndpointResult result : results) {
+            table.append(String.format(Locale.ROOT, "%-16s %10d %8d %12.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.getEndpoint(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.getP50(), result.getP90(), result.getP99(), result.getP999(), result.getMax()));
+        }
+        return table.toString();
+    }
+
+    public String compareTo(LoadReport baseline) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%n%-16s %12s %12s %9s %12s %12s %9s%n", "endpoint", baseline.getThreadMode() + " rps",
+                threadMode + " rps", "change", baseline.getThreadMode() + " p99", threadMode + " p99", "change"));
+        for (EndpointResult result : results) {
+            baseline.getResults().stream()
+                    .filter(baselineResult -> baselineResult.getEndpoint() == result.getEndpoint())
+                    .findFirst()
+                    .ifPresent(baselineResult -> table.append(String.format(Locale.ROOT,
+                            "%-16s %12.1f %12.1f %8.1f%% %12.2f %12.2f %8.1f%%%n", result.getEndpoint(),
+                            baselineResult.getThroughput(), result.getThroughput(),
+                            percentChange(baselineResult.getThroughput(), result.getThroughput()),
+                            baselineResult.getP99(), result.getP99(),
+                            percentChange(baselineResult.getP99(), result.getP99()))));
+        }
+        return table.toString();
+    }
+
+    public void writeCsv(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (EndpointResult result : results) {
+            lines.add(String.format(Locale.ROOT, "%s,%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f", threadMode,
+                    result.getEndpoint(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.getP50(), result.getP90(), result.getP99(), result.getP999(), result.getMax()));
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+    }
+
+    public List<String> findViolations(Duration maxP99, double maxErrorRate) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointResult result : results) {
+            if (maxP99 != null && result.getP99() > maxP99.toMillis()) {
+                violations.add(String.format(Locale.ROOT, "%s p99 %.2f ms exceeds %d ms", result.getEndpoint(),
+                        result.getP99(), maxP99.toMillis()));
+            }
+            double errorRate = (result.getRequests() == 0) ? 0 : (double) result.getErrors() / result.getRequests();
+            if (errorRate > maxErrorRate) {
+                violations.add(String.format(Locale.ROOT, "%s error rate %.4f exceeds %.4f", result.getEndpoint(),
+                        errorRate, maxErrorRate));
+            }
+        }
+        return violations;
+    }
+
+    private static double percentChange(double baseline, double value) {
+        return (baseline == 0) ? 0 : (value - baseline) / baseline * 100;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class EndpointResult {
+        private final Endpoint endpoint;
+        private final long requests;
+        private final long errors;
+        private final double throughput;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double max;
+    }
+}
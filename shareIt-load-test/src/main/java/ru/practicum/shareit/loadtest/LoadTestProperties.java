@@ -0,0 +1,69 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "shareit.load-test")
+public class LoadTestProperties {
+    private String gatewayUrl = "http://localhost:8080";
+    private long randomSeed = 42;
+    private double zipfExponent = 1.1;
+    private final Data data = new Data();
+    private final Load load = new Load();
+    private final Insert insert = new Insert();
+
+    @Getter
+    @Setter
+    public static class Data {
+        private boolean enabled = true;
+        private int users = 1000;
+        private int itemRequests = 500;
+        private int items = 5000;
+        private int bookings = 50000;
+        private double requestedItemShare = 0.2;
+        private double unavailableItemShare = 0.1;
+        private double commentProbability = 0.3;
+        private int batchSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class Load {
+        private boolean enabled = true;
+        private ThreadMode threadMode = ThreadMode.PLATFORM;
+        private int concurrency = 32;
+        private Duration warmup = Duration.ofSeconds(10);
+        private Duration duration = Duration.ofSeconds(60);
+        private Duration requestTimeout = Duration.ofSeconds(10);
+        private int pageSize = 20;
+        private Map<Endpoint, Integer> mix = new EnumMap<>(Map.of(
+                Endpoint.BOOKINGS, 30,
+                Endpoint.BOOKINGS_OWNER, 25,
+                Endpoint.ITEMS, 25,
+                Endpoint.ITEMS_SEARCH, 15,
+                Endpoint.REQUESTS_ALL, 5));
+        private String reportFile = "load-test-report.csv";
+        private String baselineReportFile;
+        private Duration maxP99;
+        private double maxErrorRate = 0.01;
+    }
+
+    @Getter
+    @Setter
+    public static class Insert {
+        private boolean enabled = false;
+        private int bookings = 5000;
+        private int warmupBookings = 500;
+        private int batchSize = 100;
+        private int concurrency = 8;
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private String reportFile = "insert-report.csv";
+    }
+}
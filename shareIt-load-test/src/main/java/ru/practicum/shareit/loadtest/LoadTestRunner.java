@@ -0,0 +1,84 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestRunner implements CommandLineRunner, ExitCodeGenerator {
+    private final LoadTestProperties properties;
+    private final DataGenerator dataGenerator;
+    private final LoadDriver loadDriver;
+    private final BookingInsertDriver bookingInsertDriver;
+    private final JdbcTemplate jdbcTemplate;
+    private int exitCode;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (properties.getData().isEnabled()) {
+            dataGenerator.generate();
+        }
+        if (!properties.getLoad().isEnabled() && !properties.getInsert().isEnabled()) {
+            return;
+        }
+        Long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        Long lastUserId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (firstUserId == null || lastUserId == null) {
+            throw new IllegalStateException("There are no users in the database, enable data generation first");
+        }
+        int userCount = (int) (lastUserId - firstUserId + 1);
+        if (properties.getLoad().isEnabled()) {
+            runLoad(firstUserId, userCount);
+        }
+        if (properties.getInsert().isEnabled()) {
+            runInsertComparison(firstUserId, userCount);
+        }
+    }
+
+    private void runLoad(long firstUserId, int userCount) throws Exception {
+        LoadReport report = loadDriver.run(firstUserId, userCount);
+        log.info("Load test results for {} with {} threads:{}", properties.getGatewayUrl(),
+                report.getThreadMode(), report.toTable());
+        Path reportFile = Path.of(properties.getLoad().getReportFile());
+        report.writeCsv(reportFile);
+        log.info("Load test report was written to {}", reportFile.toAbsolutePath());
+        if (properties.getLoad().getBaselineReportFile() != null) {
+            Path baselineFile = Path.of(properties.getLoad().getBaselineReportFile());
+            log.info("Comparison with baseline {}:{}", baselineFile.toAbsolutePath(),
+                    report.compareTo(LoadReport.readCsv(baselineFile)));
+        }
+        List<String> violations = report.findViolations(properties.getLoad().getMaxP99(),
+                properties.getLoad().getMaxErrorRate());
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> log.error("Load test threshold violated: {}", violation));
+            exitCode = 1;
+        }
+    }
+
+    private void runInsertComparison(long firstUserId, int userCount) throws Exception {
+        List<BookingInsertDriver.BookableItem> items = jdbcTemplate.query(
+                "SELECT id, owner_id FROM items WHERE available = TRUE",
+                (rs, rowNum) -> new BookingInsertDriver.BookableItem(rs.getLong("id"), rs.getLong("owner_id")));
+        if (items.isEmpty()) {
+            throw new IllegalStateException("There are no available items, enable data generation first");
+        }
+        InsertReport report = bookingInsertDriver.run(firstUserId, userCount, items);
+        log.info("Booking insert results for {}:{}", properties.getGatewayUrl(), report.toTable());
+        Path reportFile = Path.of(properties.getInsert().getReportFile());
+        report.writeCsv(reportFile);
+        log.info("Booking insert report was written to {}", reportFile.toAbsolutePath());
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
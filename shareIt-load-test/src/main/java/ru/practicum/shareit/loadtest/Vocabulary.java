@@ -0,0 +1,18 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+final class Vocabulary {
+    static final List<String> TOOLS = List.of("Drill", "Saw", "Ladder", "Hammer", "Tent", "Bicycle", "Kayak",
+            "Projector", "Camera", "Tripod", "Grill", "Mixer", "Vacuum", "Sander", "Wrench", "Jigsaw", "Compressor",
+            "Scooter", "Skis", "Snowboard", "Guitar", "Speaker", "Microphone", "Telescope", "Sleeping bag",
+            "Backpack", "Lawnmower", "Chainsaw", "Pressure washer", "Generator");
+
+    private Vocabulary() {
+    }
+
+    static String randomTool(Random random) {
+        return TOOLS.get(random.nextInt(TOOLS.size()));
+    }
+}
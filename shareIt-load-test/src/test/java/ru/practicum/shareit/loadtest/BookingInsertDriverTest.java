@@ -0,0 +1,85 @@
+package ru.practicum.shareit.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingInsertDriverTest {
+    private static final Pattern ITEM_ID = Pattern.compile("\"itemId\":(\\d+)");
+    private final Map<String, AtomicInteger> receivedBookings = new ConcurrentHashMap<>();
+    private final Set<String> bookedOwnItems = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private LoadTestProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String bookerId = exchange.getRequestHeaders().getFirst("X-Sharer-User-Id");
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            StringBuilder response = new StringBuilder("[");
+            Matcher matcher = ITEM_ID.matcher(body);
+            while (matcher.find()) {
+                receivedBookings.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+                if (matcher.group(1).equals(bookerId)) {
+                    bookedOwnItems.add(matcher.group(1));
+                }
+                response.append((response.length() == 1) ? "" : ",").append("{\"booking\":{\"id\":1}}");
+            }
+            byte[] bytes = response.append("]").toString().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        });
+        server.start();
+        properties = new LoadTestProperties();
+        properties.setGatewayUrl("http://localhost:" + server.getAddress().getPort());
+        properties.getInsert().setBookings(250);
+        properties.getInsert().setWarmupBookings(10);
+        properties.getInsert().setBatchSize(100);
+        properties.getInsert().setConcurrency(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void run_whenBookingsAreInserted_thenBothModesCreateTheSameBookings() throws InterruptedException {
+        List<BookingInsertDriver.BookableItem> items = List.of(new BookingInsertDriver.BookableItem(1, 1),
+                new BookingInsertDriver.BookableItem(2, 2), new BookingInsertDriver.BookableItem(3, 3));
+
+        InsertReport report = new BookingInsertDriver(properties).run(1, 3, items);
+
+        assertThat(report.getResults()).extracting(InsertReport.ModeResult::getMode)
+                .containsExactly(InsertReport.Mode.SINGLE, InsertReport.Mode.BATCH);
+        assertThat(report.getResults()).extracting(InsertReport.ModeResult::getRequests).containsExactly(250L, 3L);
+        assertThat(report.getResults()).allSatisfy(result -> {
+            assertThat(result.getCreated()).isEqualTo(250);
+            assertThat(result.getFailedRequests()).isZero();
+            assertThat(result.getThroughput()).isPositive();
+        });
+        assertThat(receivedBookings.get("/bookings")).hasValue(260);
+        assertThat(receivedBookings.get("/bookings/batch")).hasValue(260);
+        assertThat(bookedOwnItems).isEmpty();
+        assertThat(report.getSpeedup()).isPositive();
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "shareit.load-test.data.users=50",
+        "shareit.load-test.data.item-requests=20",
+        "shareit.load-test.data.items=200",
+        "shareit.load-test.data.bookings=2000",
+        "shareit.load-test.data.batch-size=300"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class DataGeneratorTest {
+    private final DataGenerator dataGenerator;
+    private final JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteData() {
+        jdbcTemplate.batchUpdate("DELETE FROM comments", "DELETE FROM bookings", "DELETE FROM items",
+                "DELETE FROM item_requests", "DELETE FROM users");
+    }
+
+    @Test
+    void generate_whenCalledTwice_thenDataIsAppendedAndSequencesAreSynced() {
+        dataGenerator.generate();
+        dataGenerator.generate();
+
+        assertThat(count("SELECT COUNT(*) FROM users")).isEqualTo(100);
+        assertThat(count("SELECT COUNT(*) FROM item_requests")).isEqualTo(40);
+        assertThat(count("SELECT COUNT(*) FROM items")).isEqualTo(400);
+        assertThat(count("SELECT COUNT(*) FROM bookings")).isEqualTo(4000);
+        assertThat(count("SELECT COUNT(*) FROM comments")).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM bookings b JOIN items i ON i.id = b.item_id "
+                + "WHERE b.booker_id = i.owner_id")).isZero();
+        assertThat(count("SELECT NEXT VALUE FOR bookings_seq")).isEqualTo(4001);
+    }
+
+    @Test
+    void generate_whenOwnersArePicked_thenItemsAreSkewedTowardsPopularUsers() {
+        dataGenerator.generate();
+
+        long topOwnerItems = count("SELECT MAX(c) FROM (SELECT COUNT(*) c FROM items GROUP BY owner_id) t");
+        long ownersWithItems = count("SELECT COUNT(DISTINCT owner_id) FROM items");
+
+        assertThat(topOwnerItems).isGreaterThan(200 / ownersWithItems * 5);
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return (count == null) ? 0 : count;
+    }
+}
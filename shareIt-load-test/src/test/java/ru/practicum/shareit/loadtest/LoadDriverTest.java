@@ -0,0 +1,70 @@
+package ru.practicum.shareit.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadDriverTest {
+    private final Set<String> receivedUserIds = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private LoadTestProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            receivedUserIds.add(exchange.getRequestHeaders().getFirst("X-Sharer-User-Id"));
+            int status = exchange.getRequestURI().getPath().equals("/requests/all") ? 500 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        properties = new LoadTestProperties();
+        properties.setGatewayUrl("http://localhost:" + server.getAddress().getPort());
+        properties.getLoad().setConcurrency(2);
+        properties.getLoad().setWarmup(Duration.ZERO);
+        properties.getLoad().setDuration(Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void run_whenMixContainsAllEndpoints_thenEveryEndpointIsReported() throws InterruptedException {
+        LoadReport report = new LoadDriver(properties).run(100, 10);
+
+        assertThat(report.getResults()).extracting(LoadReport.EndpointResult::getEndpoint)
+                .containsExactly(Endpoint.values());
+        assertThat(report.getResults()).allSatisfy(result -> {
+            assertThat(result.getRequests()).isPositive();
+            assertThat(result.getThroughput()).isPositive();
+            assertThat(result.getP99()).isGreaterThanOrEqualTo(result.getP50());
+        });
+        assertThat(receivedUserIds).allSatisfy(userId -> assertThat(Long.parseLong(userId)).isBetween(100L, 109L));
+        assertThat(report.findViolations(null, 0.01)).singleElement().asString().startsWith("REQUESTS_ALL");
+    }
+
+    @Test
+    void run_whenEndpointHasZeroWeight_thenItIsNotCalled() throws InterruptedException {
+        properties.getLoad().setMix(Map.of(Endpoint.ITEMS, 1, Endpoint.REQUESTS_ALL, 0));
+
+        List<LoadReport.EndpointResult> results = new LoadDriver(properties).run(1, 1).getResults();
+
+        assertThat(results).singleElement().extracting(LoadReport.EndpointResult::getEndpoint)
+                .isEqualTo(Endpoint.ITEMS);
+        assertThat(results.get(0).getErrors()).isZero();
+    }
+}
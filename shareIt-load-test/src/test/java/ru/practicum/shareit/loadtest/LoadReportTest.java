@@ -0,0 +1,46 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadReportTest {
+
+    @Test
+    void readCsv_whenReportWasWritten_thenThreadModeAndResultsAreRestored(@TempDir Path directory)
+            throws IOException {
+        Path file = directory.resolve("report.csv");
+        new LoadReport(ThreadMode.VIRTUAL, List.of(result(Endpoint.ITEMS, 250.5, 12.25))).writeCsv(file);
+
+        LoadReport report = LoadReport.readCsv(file);
+
+        assertThat(report.getThreadMode()).isEqualTo(ThreadMode.VIRTUAL);
+        assertThat(report.getResults()).singleElement().satisfies(result -> {
+            assertThat(result.getEndpoint()).isEqualTo(Endpoint.ITEMS);
+            assertThat(result.getThroughput()).isEqualTo(250.5);
+            assertThat(result.getP99()).isEqualTo(12.25);
+        });
+    }
+
+    @Test
+    void compareTo_thenThroughputAndP99ChangesAreReportedForCommonEndpoints() {
+        LoadReport baseline = new LoadReport(ThreadMode.PLATFORM, List.of(result(Endpoint.ITEMS, 200, 10),
+                result(Endpoint.BOOKINGS, 100, 20)));
+        LoadReport report = new LoadReport(ThreadMode.VIRTUAL, List.of(result(Endpoint.ITEMS, 250, 8)));
+
+        String comparison = report.compareTo(baseline);
+
+        assertThat(comparison).contains("PLATFORM rps", "VIRTUAL p99")
+                .containsPattern("ITEMS +200\\.0 +250\\.0 +25\\.0% +10\\.00 +8\\.00 +-20\\.0%")
+                .doesNotContain("BOOKINGS");
+    }
+
+    private static LoadReport.EndpointResult result(Endpoint endpoint, double throughput, double p99) {
+        return new LoadReport.EndpointResult(endpoint, 1000, 0, throughput, p99 / 2, p99 / 1.5, p99, p99, p99);
+    }
+}
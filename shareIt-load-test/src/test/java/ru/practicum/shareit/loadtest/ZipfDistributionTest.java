@@ -0,0 +1,43 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ZipfDistributionTest {
+
+    @Test
+    void sample_whenCalledManyTimes_thenLowRanksArePickedMoreOften() {
+        ZipfDistribution distribution = new ZipfDistribution(100, 1.1);
+        Random random = new Random(1);
+        int[] counts = new int[100];
+
+        for (int i = 0; i < 100_000; i++) {
+            counts[distribution.sample(random)]++;
+        }
+
+        assertThat(counts[0]).isGreaterThan(counts[1]);
+        assertThat(counts[1]).isGreaterThan(counts[10]);
+        assertThat(counts[10]).isGreaterThan(counts[99]);
+        assertThat(counts[99]).isPositive();
+    }
+
+    @Test
+    void sample_whenSeedIsTheSame_thenSequenceIsReproducible() {
+        ZipfDistribution distribution = new ZipfDistribution(1000, 1.1);
+        Random first = new Random(42);
+        Random second = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(distribution.sample(first)).isEqualTo(distribution.sample(second));
+        }
+    }
+
+    @Test
+    void constructor_whenSizeIsNotPositive_thenThrowException() {
+        assertThatThrownBy(() -> new ZipfDistribution(0, 1.1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -2,14 +2,22 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingBatchDtoRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingFilter;
 import ru.practicum.shareit.booking.entity.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
 import ru.practicum.shareit.util.HeaderName;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -27,6 +35,14 @@ public class BookingController {
         return bookingService.createBooking(bookingDtoRequest, userId);
     }
 
+    @PostMapping("/batch")
+    public List<BookingBatchResultDto> createBookings(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+                                                      @RequestBody BookingBatchDtoRequest bookingBatchDtoRequest,
+                                                      HttpServletRequest request) {
+        log.debug("{} request {} received: {}", request.getMethod(), request.getRequestURI(), bookingBatchDtoRequest);
+        return bookingService.createBookings(bookingBatchDtoRequest.getBookings(), userId);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDtoResponse getBookingById(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
                                              @PathVariable Long bookingId,
@@ -36,23 +52,41 @@ public class BookingController {
     }
 
     @GetMapping()
-    public List<BookingDtoResponse> getAllByBookerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                     @RequestParam(defaultValue = "ALL") BookingState state,
-                                                     @RequestParam(defaultValue = "0") Integer from,
-                                                     @RequestParam(defaultValue = "100") Integer size,
-                                                     HttpServletRequest request) {
-        log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return bookingService.getAllByBookerId(userId, state, from, size);
+    public ResponseEntity<List<BookingDtoResponse>> getAllByBookerId(
+            @RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(defaultValue = "0") Integer from,
+            @RequestParam(defaultValue = "100") Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeEnd,
+            HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        BookingFilter filter = toBookingFilter(state, itemId, rangeStart, rangeEnd);
+        List<BookingDtoResponse> bookings = (cursor == null)
+                ? bookingService.getAllByBookerId(userId, filter, from, size)
+                : bookingService.getAllByBookerIdAfterCursor(userId, filter, BookingCursor.decode(cursor), size);
+        return toResponseWithNextCursor(bookings, size);
     }
 
     @GetMapping("/owner")
-    public List<BookingDtoResponse> getAllByItemOwnerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
-                                                        @RequestParam(defaultValue = "ALL") BookingState state,
-                                                        @RequestParam(defaultValue = "0") Integer from,
-                                                        @RequestParam(defaultValue = "100") Integer size,
-                                                        HttpServletRequest request) {
-        log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return bookingService.getAllByItemOwnerId(userId, state, from, size);
+    public ResponseEntity<List<BookingDtoResponse>> getAllByItemOwnerId(
+            @RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
+            @RequestParam(defaultValue = "ALL") BookingState state,
+            @RequestParam(defaultValue = "0") Integer from,
+            @RequestParam(defaultValue = "100") Integer size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeStart,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime rangeEnd,
+            HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        BookingFilter filter = toBookingFilter(state, itemId, rangeStart, rangeEnd);
+        List<BookingDtoResponse> bookings = (cursor == null)
+                ? bookingService.getAllByItemOwnerId(userId, filter, from, size)
+                : bookingService.getAllByItemOwnerIdAfterCursor(userId, filter, BookingCursor.decode(cursor), size);
+        return toResponseWithNextCursor(bookings, size);
     }
 
     @PatchMapping("/{bookingId}")
@@ -63,4 +97,24 @@ public class BookingController {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
         return bookingService.updateBooking(userId, bookingId, approved);
     }
+
+    private static BookingFilter toBookingFilter(BookingState state, Long itemId, LocalDateTime rangeStart,
+                                                 LocalDateTime rangeEnd) {
+        return BookingFilter.builder()
+                .state(state)
+                .itemId(itemId)
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeEnd)
+                .build();
+    }
+
+    private ResponseEntity<List<BookingDtoResponse>> toResponseWithNextCursor(List<BookingDtoResponse> bookings,
+                                                                              Integer size) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (!bookings.isEmpty() && bookings.size() == size) {
+            BookingDtoResponse lastBooking = bookings.get(bookings.size() - 1);
+            responseBuilder.header(HeaderName.NEXT_CURSOR, BookingCursor.of(lastBooking).encode());
+        }
+        return responseBuilder.body(bookings);
+    }
 }
\ No newline at end of file
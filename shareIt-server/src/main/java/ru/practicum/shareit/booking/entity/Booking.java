@@ -5,6 +5,7 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.util.DateUtils;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -17,21 +18,44 @@ import java.time.LocalDateTime;
 @ToString
 @Entity
 @Table(name = "bookings")
+@NamedEntityGraph(name = Booking.WITH_ITEM_AND_BOOKER, attributeNodes = {
+        @NamedAttributeNode("item"),
+        @NamedAttributeNode("booker")
+})
 public class Booking {
+    public static final String WITH_ITEM_AND_BOOKER = "Booking.withItemAndBooker";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
     @Column(name = "start_date", nullable = false)
     private LocalDateTime start;
     @Column(name = "end_date", nullable = false)
     private LocalDateTime end;
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @ToString.Exclude
     @OnDelete(action = OnDeleteAction.CASCADE)
     private Item item;
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @ToString.Exclude
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User booker;
     @Column(length = 15, nullable = false)
     @Enumerated(EnumType.STRING)
     private BookingStatus status;
+    @Column(nullable = false)
+    private boolean archived;
+    @Column(name = "date_created", nullable = false, updatable = false)
+    private LocalDateTime created;
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @PrePersist
+    void setCreatedIfAbsent() {
+        if (created == null) {
+            created = DateUtils.now();
+        }
+    }
 }
@@ -3,6 +3,8 @@ package ru.practicum.shareit.booking.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import ru.practicum.shareit.booking.dto.BookingDtoForItem;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
 import ru.practicum.shareit.booking.entity.Booking;
@@ -15,12 +17,25 @@ import java.util.List;
 public interface BookingMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
+    @Mapping(target = "archived", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Booking toBooking(BookingDtoRequest bookingDtoRequest, Item item, User booker);
 
+    @Mapping(target = "item.requestId", source = "item.request.id")
     BookingDtoResponse toBookingDtoResponse(Booking booking);
 
-    @Mapping(target = "bookerId", source = "booker.id")
-    BookingDtoForItem toBookingDtoForItem(Booking booking);
+    BookingDtoForItem toBookingDtoForItem(BookingForItemView bookingForItemView);
 
-    List<BookingDtoResponse> toBookingDtoResponseList(List<Booking> bookings);
+    @Mapping(target = "booker.id", source = "bookerId")
+    @Mapping(target = "booker.name", source = "bookerName")
+    @Mapping(target = "booker.email", source = "bookerEmail")
+    @Mapping(target = "item.id", source = "itemId")
+    @Mapping(target = "item.name", source = "itemName")
+    @Mapping(target = "item.description", source = "itemDescription")
+    @Mapping(target = "item.available", source = "itemAvailable")
+    @Mapping(target = "item.requestId", source = "itemRequestId")
+    BookingDtoResponse toBookingDtoResponse(BookingView bookingView);
+
+    List<BookingDtoResponse> toBookingDtoResponseList(List<BookingView> bookings);
 }
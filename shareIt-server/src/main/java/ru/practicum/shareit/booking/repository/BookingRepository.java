@@ -1,51 +1,61 @@
 package ru.practicum.shareit.booking.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
+    @Override
+    @EntityGraph(Booking.WITH_ITEM_AND_BOOKER)
+    Optional<Booking> findById(Long id);
+
+    boolean existsByItemIdAndStatusAndStartBeforeAndEndAfter(Long itemId, BookingStatus status,
+                                                             LocalDateTime end, LocalDateTime start);
+
+    @Query("select b.id as id, b.item.id as itemId, b.booker.id as bookerId, b.start as start, b.end as end" +
+            " from Booking b where b.item.id in ?1 and b.status = 'APPROVED' and b.start < ?3 and b.end > ?2")
+    List<BookingForItemView> findApprovedBookingsOverlappingPeriod(Collection<Long> itemIds, LocalDateTime start,
+                                                                   LocalDateTime end);
+
+    @Query(value = "select r.id as \"id\", r.item_id as \"itemId\", r.booker_id as \"bookerId\"," +
+            " r.start_date as \"start\", r.end_date as \"end\"" +
+            " from (select b.id, b.item_id, b.booker_id, b.start_date, b.end_date," +
+            " row_number() over (partition by b.item_id, b.start_date < ?2" +
+            " order by case when b.start_date < ?2 then b.start_date end desc, b.start_date, b.id) as rn" +
+            " from bookings b" +
+            " where b.item_id in (?1) and b.status = 'APPROVED' and b.start_date <> ?2) r" +
+            " where r.rn = 1", nativeQuery = true)
+    List<BookingForItemView> findLastAndNextApprovedBookings(Collection<Long> itemIds, LocalDateTime currentTime);
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-
-    @Query("select b from Booking b where b.booker.id = ?1")
-    List<Booking> findAllUserBookings(Long userId, Pageable pageable);
-
-    @Query("select b from Booking b where b.booker.id = ?1 and b.end < ?2")
-    List<Booking> findAllPastUserBookings(Long userId, LocalDateTime currentTime, Pageable pageable);
-
-    @Query("select b from Booking b where b.booker.id = ?1 and b.start < ?2 AND b.end > ?2")
-    List<Booking> findAllCurrentUserBookings(Long userId, LocalDateTime currentTime, Pageable pageable);
-
-    @Query("select b from Booking b where b.booker.id = ?1 and b.start > ?2")
-    List<Booking> findAllFutureUserBookings(Long userId, LocalDateTime currentTime, Pageable pageable);
-
-    @Query("select b from Booking b where b.item.owner.id = ?1")
-    List<Booking> findAllItemOwnerBookings(Long userId, Pageable pageable);
-
-    @Query("select b from Booking b where b.item.owner.id = ?1 and b.end < ?2")
-    List<Booking> findAllPastItemOwnerBookings(Long userId, LocalDateTime currentTime, Pageable pageable);
-
-    @Query("SELECT b FROM Booking b WHERE  b.item.owner.id = ?1 AND b.start < ?2 AND b.end > ?2")
-    List<Booking> findAllCurrentItemOwnerBookings(Long userId, LocalDateTime currentTime, Pageable pageable);
-
-    @Query("select b from Booking b where b.item.owner.id = ?1 and b.start > ?2")
-    List<Booking> findAllFutureItemOwnerBookings(Long userId, LocalDateTime currentTime, Pageable pageable);
+    @Query("select b from Booking  b where b.item.id = ?1 and b.booker.id = ?2" +
+            " and ((b.status = 'APPROVED' and b.start < ?3) or (b.status = 'CANCELED'))")
+    List<Booking> findAllRealItemBookingsForUserAtTheMoment(Long itemId, Long userId, LocalDateTime currentTime);
 
-    List<Booking> findAllByBookerIdAndStatus(Long bookerId, BookingStatus status, Pageable pageable);
+    @Query("select b.id from Booking b where b.archived = false and b.end < ?1 and b.status <> 'WAITING'")
+    List<Long> findIdsOfBookingsToArchive(LocalDateTime endedBefore, Pageable pageable);
 
-    List<Booking> findAllByItemOwnerIdAndStatus(Long itemOwnerId, BookingStatus bookingStatus, Pageable pageable);
+    @Query("select min(b.start) from Booking b where b.archived = false and b.end < ?1 and b.status <> 'WAITING'")
+    Optional<LocalDateTime> findEarliestStartOfBookingsToArchive(LocalDateTime endedBefore);
 
-    @Query("select b from Booking  b where b.item.id = ?1 and b.status = 'APPROVED' order by b.start")
-    List<Booking> findAllSortedByStartApprovedBookingsByItemId(Long itemId);
+    @Modifying
+    @Query("update Booking b set b.archived = true, b.version = b.version + 1 where b.id in ?1")
+    int archiveBookings(Collection<Long> ids);
 
-    @Query("select b from Booking  b where b.item.owner.id = ?1 and b.status = 'APPROVED' order by b.start")
-    List<Booking> findAllSortedByStartApprovedBookingsByItemOwnerId(Long id);
+    @Query("select b.id from Booking b where b.status = 'WAITING' and (b.start < ?1 or b.created < ?2)")
+    List<Long> findIdsOfBookingsToExpire(LocalDateTime currentTime, LocalDateTime createdBefore, Pageable pageable);
 
-    @Query("select b from Booking  b where b.item.id = ?1 and b.booker.id = ?2" +
-            " and ((b.status = 'APPROVED' and b.start < ?3) or (b.status = 'CANCELED'))")
-    List<Booking> findAllRealItemBookingsForUserAtTheMoment(Long itemId, Long userId, LocalDateTime currentTime);
+    @Modifying
+    @Query("update Booking b set b.status = 'EXPIRED', b.version = b.version + 1" +
+            " where b.id in ?1 and b.status = 'WAITING'")
+    int expireBookings(Collection<Long> ids);
 }
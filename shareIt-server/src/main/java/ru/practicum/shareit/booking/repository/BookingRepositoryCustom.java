@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.repository;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.dto.BookingView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+    List<BookingView> findBookings(BookingRole role, Long userId, BookingFilter filter, LocalDateTime currentTime,
+                                   Pageable pageable);
+
+    List<BookingView> findBookingsAfterCursor(BookingRole role, Long userId, BookingFilter filter,
+                                              LocalDateTime currentTime, BookingCursor cursor, int size);
+}
@@ -0,0 +1,105 @@
+package ru.practicum.shareit.booking.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.lang.Nullable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingState;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.exception.UnknownStateException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.user.entity.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BookingView> findBookings(BookingRole role, Long userId, BookingFilter filter,
+                                          LocalDateTime currentTime, Pageable pageable) {
+        return entityManager.createQuery(createQuery(role, userId, filter, currentTime, null))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public List<BookingView> findBookingsAfterCursor(BookingRole role, Long userId, BookingFilter filter,
+                                                     LocalDateTime currentTime, BookingCursor cursor, int size) {
+        return entityManager.createQuery(createQuery(role, userId, filter, currentTime, cursor))
+                .setMaxResults(size)
+                .getResultList();
+    }
+
+    private CriteriaQuery<BookingView> createQuery(BookingRole role, Long userId, BookingFilter filter,
+                                                   LocalDateTime currentTime, @Nullable BookingCursor cursor) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookingView> query = cb.createQuery(BookingView.class);
+        Root<Booking> booking = query.from(Booking.class);
+        Join<Booking, Item> item = booking.join("item");
+        Join<Booking, User> booker = booking.join("booker");
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        Path<Long> id = booking.get("id");
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(userIdPath(role, booking, item), userId));
+        predicates.add(statePredicate(cb, booking, filter.getState(), currentTime));
+        if (filter.getItemId() != null) {
+            predicates.add(cb.equal(item.get("id"), filter.getItemId()));
+        }
+        if (filter.getRangeStart() != null) {
+            predicates.add(cb.greaterThan(end, filter.getRangeStart()));
+        }
+        if (filter.getRangeEnd() != null) {
+            predicates.add(cb.lessThan(start, filter.getRangeEnd()));
+        }
+        if (cursor != null) {
+            predicates.add(cb.or(cb.lessThan(start, cursor.getStart()),
+                    cb.and(cb.equal(start, cursor.getStart()), cb.lessThan(id, cursor.getId()))));
+        }
+        return query.select(cb.construct(BookingView.class, id, start, end, booking.get("status"),
+                        booker.get("id"), booker.get("name"), booker.get("email"),
+                        item.get("id"), item.get("name"), item.get("description"), item.get("available"),
+                        item.get("request").get("id")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(start), cb.desc(id));
+    }
+
+    private Path<Long> userIdPath(BookingRole role, Root<Booking> booking, Join<Booking, Item> item) {
+        return (role == BookingRole.BOOKER) ? booking.get("booker").get("id") : item.get("owner").get("id");
+    }
+
+    private Predicate statePredicate(CriteriaBuilder cb, Root<Booking> booking, BookingState state,
+                                     LocalDateTime currentTime) {
+        Path<LocalDateTime> start = booking.get("start");
+        Path<LocalDateTime> end = booking.get("end");
+        switch (state) {
+            case ALL:
+                return cb.conjunction();
+            case PAST:
+                return cb.lessThan(end, currentTime);
+            case CURRENT:
+                return cb.and(cb.isFalse(booking.get("archived")), cb.lessThan(start, currentTime),
+                        cb.greaterThan(end, currentTime));
+            case FUTURE:
+                return cb.and(cb.isFalse(booking.get("archived")), cb.greaterThan(start, currentTime));
+            case WAITING:
+                return cb.equal(booking.get("status"), BookingStatus.WAITING);
+            case REJECTED:
+                return cb.equal(booking.get("status"), BookingStatus.REJECTED);
+            case EXPIRED:
+                return cb.equal(booking.get("status"), BookingStatus.EXPIRED);
+            default:
+                throw new UnknownStateException(BookingState.UNSUPPORTED_STATUS);
+        }
+    }
+}
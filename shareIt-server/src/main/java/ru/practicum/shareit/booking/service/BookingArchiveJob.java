@@ -0,0 +1,83 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class BookingArchiveJob {
+    private static final String CREATE_ARCHIVE_PARTITION = "CREATE TABLE IF NOT EXISTS bookings_archive_y%d" +
+            " PARTITION OF bookings_archive FOR VALUES FROM ('%s') TO ('%s')";
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration archiveAfter;
+    private final int batchSize;
+    private Boolean partitioned;
+
+    public BookingArchiveJob(BookingRepository bookingRepository, TransactionTemplate transactionTemplate,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${shareit.booking-archive.archive-after:180d}") Duration archiveAfter,
+                             @Value("${shareit.booking-archive.batch-size:1000}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveAfter = archiveAfter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${shareit.booking-archive.cron:0 30 3 * * *}")
+    public int archiveCompletedBookings() {
+        LocalDateTime endedBefore = DateUtils.now().minus(archiveAfter);
+        if (isPartitioned()) {
+            createArchivePartitions(endedBefore);
+        }
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        int archived = 0;
+        List<Long> ids = bookingRepository.findIdsOfBookingsToArchive(endedBefore, firstBatch);
+        while (!ids.isEmpty()) {
+            List<Long> batch = ids;
+            Integer updated = transactionTemplate.execute(status -> bookingRepository.archiveBookings(batch));
+            archived += (updated == null) ? 0 : updated;
+            ids = bookingRepository.findIdsOfBookingsToArchive(endedBefore, firstBatch);
+        }
+        log.info("{} bookings that ended before {} were moved to the archive", archived, endedBefore);
+        return archived;
+    }
+
+    private void createArchivePartitions(LocalDateTime endedBefore) {
+        int firstYear = bookingRepository.findEarliestStartOfBookingsToArchive(endedBefore)
+                .map(LocalDateTime::getYear)
+                .orElse(endedBefore.getYear());
+        for (int year = firstYear; year <= endedBefore.getYear(); year++) {
+            createArchivePartition(year);
+        }
+    }
+
+    private void createArchivePartition(int year) {
+        LocalDate from = LocalDate.of(year, 1, 1);
+        jdbcTemplate.execute(String.format(CREATE_ARCHIVE_PARTITION, year, from, from.plusYears(1)));
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().startsWith("PostgreSQL"));
+        }
+        return Boolean.TRUE.equals(partitioned);
+    }
+}
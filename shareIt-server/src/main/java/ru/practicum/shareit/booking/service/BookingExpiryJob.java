@@ -0,0 +1,65 @@
+package ru.practicum.shareit.booking.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class BookingExpiryJob {
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration approvalWindow;
+    private final int batchSize;
+    private final Counter expiredCounter;
+    private final Counter batchCounter;
+
+    public BookingExpiryJob(BookingRepository bookingRepository, TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${shareit.booking-expiry.approval-window:7d}") Duration approvalWindow,
+                            @Value("${shareit.booking-expiry.batch-size:1000}") int batchSize) {
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.approvalWindow = approvalWindow;
+        this.batchSize = batchSize;
+        expiredCounter = Counter.builder("shareit.booking.expiry.rows")
+                .description("Number of waiting bookings moved to the EXPIRED status")
+                .register(meterRegistry);
+        batchCounter = Counter.builder("shareit.booking.expiry.batches")
+                .description("Number of update batches executed by the booking expiry job")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${shareit.booking-expiry.cron:0 */5 * * * *}")
+    public int expireStaleBookings() {
+        LocalDateTime currentTime = DateUtils.now();
+        LocalDateTime createdBefore = currentTime.minus(approvalWindow);
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        int expired = 0;
+        List<Long> ids = bookingRepository.findIdsOfBookingsToExpire(currentTime, createdBefore, firstBatch);
+        while (!ids.isEmpty()) {
+            List<Long> batch = ids;
+            Integer updated = transactionTemplate.execute(status -> bookingRepository.expireBookings(batch));
+            int count = (updated == null) ? 0 : updated;
+            expiredCounter.increment(count);
+            batchCounter.increment();
+            expired += count;
+            ids = bookingRepository.findIdsOfBookingsToExpire(currentTime, createdBefore, firstBatch);
+        }
+        log.info("{} waiting bookings that started before {} or were created before {} were expired", expired,
+                currentTime, createdBefore);
+        return expired;
+    }
+}
@@ -1,19 +1,29 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
-import ru.practicum.shareit.booking.entity.BookingState;
+import ru.practicum.shareit.booking.dto.BookingFilter;
 
 import java.util.List;
 
 public interface BookingService {
     BookingDtoResponse createBooking(BookingDtoRequest bookingDtoRequest, Long userId);
 
+    List<BookingBatchResultDto> createBookings(List<BookingDtoRequest> bookingDtoRequests, Long userId);
+
     BookingDtoResponse getBookingById(Long id, Long userId);
 
-    List<BookingDtoResponse> getAllByBookerId(Long userId, BookingState state, Integer from, Integer size);
+    List<BookingDtoResponse> getAllByBookerId(Long userId, BookingFilter filter, Integer from, Integer size);
+
+    List<BookingDtoResponse> getAllByBookerIdAfterCursor(Long userId, BookingFilter filter, BookingCursor cursor,
+                                                         Integer size);
+
+    List<BookingDtoResponse> getAllByItemOwnerId(Long userId, BookingFilter filter, Integer from, Integer size);
 
-    List<BookingDtoResponse> getAllByItemOwnerId(Long userId, BookingState state, Integer from, Integer size);
+    List<BookingDtoResponse> getAllByItemOwnerIdAfterCursor(Long userId, BookingFilter filter, BookingCursor cursor,
+                                                            Integer size);
 
     BookingDtoResponse updateBooking(Long userId, Long bookingId, Boolean approved);
 }
@@ -3,26 +3,34 @@ package ru.practicum.shareit.booking.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.entity.BookingState;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingRole;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemViewCache;
+import ru.practicum.shareit.retry.RetryOnOptimisticLock;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.util.DateUtils;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,6 +41,7 @@ public class BookingServiceImpl implements BookingService {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingMapper bookingMapper;
+    private final ItemViewCache itemViewCache;
 
     @Override
     @Transactional
@@ -43,12 +52,55 @@ public class BookingServiceImpl implements BookingService {
         checkBookingAvailability(item);
         Booking booking = bookingMapper.toBooking(bookingDtoRequest, item, booker);
         checkBookingDates(booking);
+        checkBookingPeriodIsFree(booking);
         booking.setStatus(BookingStatus.WAITING);
         BookingDtoResponse bookingDtoResponse = bookingMapper.toBookingDtoResponse(bookingRepository.save(booking));
         log.debug("Booking saved in the database with id={}: {}", bookingDtoResponse.getId(), booking);
         return bookingDtoResponse;
     }
 
+    @Override
+    @Transactional
+    public List<BookingBatchResultDto> createBookings(List<BookingDtoRequest> bookingDtoRequests, Long userId) {
+        User booker = getUserById(userId);
+        Set<Long> itemIds = bookingDtoRequests.stream()
+                .map(BookingDtoRequest::getItemId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Item> items = itemIds.isEmpty() ? Collections.emptyMap() : itemRepository.findAllById(itemIds)
+                .stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Long, List<BookingForItemView>> approvedBookings = findApprovedBookingsGroupedByItemId(items.keySet(),
+                bookingDtoRequests);
+        Map<Integer, Booking> bookings = new LinkedHashMap<>();
+        BookingBatchResultDto[] results = new BookingBatchResultDto[bookingDtoRequests.size()];
+        for (int i = 0; i < bookingDtoRequests.size(); i++) {
+            BookingDtoRequest bookingDtoRequest = bookingDtoRequests.get(i);
+            try {
+                Item item = Optional.ofNullable(items.get(bookingDtoRequest.getItemId()))
+                        .orElseThrow(() -> new ItemNotFoundException(bookingDtoRequest.getItemId()));
+                checkNotItemOwner(item, userId);
+                checkBookingAvailability(item);
+                Booking booking = bookingMapper.toBooking(bookingDtoRequest, item, booker);
+                checkBookingDates(booking);
+                checkBookingPeriodIsFree(booking, approvedBookings.getOrDefault(item.getId(), List.of()));
+                booking.setStatus(BookingStatus.WAITING);
+                bookings.put(i, booking);
+            } catch (ItemNotFoundException | ItemNotAvailableForBookingException | IncorrectBookingDatesException
+                     | BookingPeriodAlreadyTakenException e) {
+                results[i] = BookingBatchResultDto.builder().index(i).error(e.getMessage()).build();
+            }
+        }
+        bookingRepository.saveAll(bookings.values());
+        bookings.forEach((index, booking) -> results[index] = BookingBatchResultDto.builder()
+                .index(index)
+                .booking(bookingMapper.toBookingDtoResponse(booking))
+                .build());
+        log.debug("{} of {} bookings saved in the database for the user with id={}", bookings.size(),
+                bookingDtoRequests.size(), userId);
+        return Arrays.asList(results);
+    }
+
     @Override
     public BookingDtoResponse getBookingById(Long id, Long userId) {
         Booking booking = getBookingByIdWithoutCheckAccess(id);
@@ -58,60 +110,58 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDtoResponse> getAllByBookerId(Long userId, BookingState state, Integer from, Integer size) {
+    public List<BookingDtoResponse> getAllByBookerId(Long userId, BookingFilter filter, Integer from, Integer size) {
         checkUserExists(userId);
-        Pageable pageable = PageRequest.of(from / size, size, Sort.by("start").descending());
-        List<Booking> bookings;
-        if (state == BookingState.ALL) {
-            bookings = bookingRepository.findAllUserBookings(userId, pageable);
-        } else if (state == BookingState.PAST) {
-            bookings = bookingRepository.findAllPastUserBookings(userId, DateUtils.now(), pageable);
-        } else if (state == BookingState.CURRENT) {
-            bookings = bookingRepository.findAllCurrentUserBookings(userId, DateUtils.now(), pageable);
-        } else if (state == BookingState.FUTURE) {
-            bookings = bookingRepository.findAllFutureUserBookings(userId, DateUtils.now(), pageable);
-        } else if (state == BookingState.WAITING) {
-            bookings = bookingRepository.findAllByBookerIdAndStatus(userId, BookingStatus.WAITING, pageable);
-        } else if (state == BookingState.REJECTED) {
-            bookings = bookingRepository.findAllByBookerIdAndStatus(userId, BookingStatus.REJECTED, pageable);
-        } else {
-            throw new UnknownStateException(BookingState.UNSUPPORTED_STATUS);
-        }
-        log.debug("Received a list of bookings for the user with id={}", userId);
+        checkBookingFilter(filter);
+        List<BookingView> bookings = bookingRepository.findBookings(BookingRole.BOOKER, userId, filter,
+                DateUtils.now(), PageRequest.of(from / size, size));
+        log.debug("Received a list of bookings for the user with id={} by {}", userId, filter);
         return bookingMapper.toBookingDtoResponseList(bookings);
     }
 
     @Override
-    public List<BookingDtoResponse> getAllByItemOwnerId(Long userId, BookingState state, Integer from, Integer size) {
+    public List<BookingDtoResponse> getAllByBookerIdAfterCursor(Long userId, BookingFilter filter,
+                                                                BookingCursor cursor, Integer size) {
         checkUserExists(userId);
-        Pageable pageable = PageRequest.of(from / size, size, Sort.by("start").descending());
-        List<Booking> bookings;
-        if (state == BookingState.ALL) {
-            bookings = bookingRepository.findAllItemOwnerBookings(userId, pageable);
-        } else if (state == BookingState.PAST) {
-            bookings = bookingRepository.findAllPastItemOwnerBookings(userId, DateUtils.now(), pageable);
-        } else if (state == BookingState.CURRENT) {
-            bookings = bookingRepository.findAllCurrentItemOwnerBookings(userId, DateUtils.now(), pageable);
-        } else if (state == BookingState.FUTURE) {
-            bookings = bookingRepository.findAllFutureItemOwnerBookings(userId, DateUtils.now(), pageable);
-        } else if (state == BookingState.WAITING) {
-            bookings = bookingRepository.findAllByItemOwnerIdAndStatus(userId, BookingStatus.WAITING, pageable);
-        } else if (state == BookingState.REJECTED) {
-            bookings = bookingRepository.findAllByItemOwnerIdAndStatus(userId, BookingStatus.REJECTED, pageable);
-        } else {
-            throw new UnknownStateException(BookingState.UNSUPPORTED_STATUS);
-        }
-        log.debug("Received a list of bookings for the user's own items for user with id={}", userId);
+        checkBookingFilter(filter);
+        List<BookingView> bookings = bookingRepository.findBookingsAfterCursor(BookingRole.BOOKER, userId, filter,
+                DateUtils.now(), cursor, size);
+        log.debug("Received a list of bookings for the user with id={} by {} after {}", userId, filter, cursor);
+        return bookingMapper.toBookingDtoResponseList(bookings);
+    }
+
+    @Override
+    public List<BookingDtoResponse> getAllByItemOwnerId(Long userId, BookingFilter filter, Integer from,
+                                                        Integer size) {
+        checkUserExists(userId);
+        checkBookingFilter(filter);
+        List<BookingView> bookings = bookingRepository.findBookings(BookingRole.ITEM_OWNER, userId, filter,
+                DateUtils.now(), PageRequest.of(from / size, size));
+        log.debug("Received a list of bookings for the user's own items for user with id={} by {}", userId, filter);
+        return bookingMapper.toBookingDtoResponseList(bookings);
+    }
+
+    @Override
+    public List<BookingDtoResponse> getAllByItemOwnerIdAfterCursor(Long userId, BookingFilter filter,
+                                                                   BookingCursor cursor, Integer size) {
+        checkUserExists(userId);
+        checkBookingFilter(filter);
+        List<BookingView> bookings = bookingRepository.findBookingsAfterCursor(BookingRole.ITEM_OWNER, userId,
+                filter, DateUtils.now(), cursor, size);
+        log.debug("Received a list of bookings for the user's own items for user with id={} by {} after {}",
+                userId, filter, cursor);
         return bookingMapper.toBookingDtoResponseList(bookings);
     }
 
     @Override
     @Transactional
+    @RetryOnOptimisticLock
     public BookingDtoResponse updateBooking(Long userId, Long bookingId, Boolean approved) {
         Booking booking = getBookingByIdWithoutCheckAccess(bookingId);
         checkItemOwner(booking, userId);
         checkBookingStatus(booking);
         changeBookingStatus(booking, approved);
+        itemViewCache.evict(booking.getItem().getId());
         log.debug("Booking with id={} was updated", booking);
         return bookingMapper.toBookingDtoResponse(booking);
     }
@@ -152,11 +202,60 @@ public class BookingServiceImpl implements BookingService {
     private void checkBookingDates(Booking booking) {
         LocalDateTime startBookingDate = booking.getStart();
         LocalDateTime endBookingDate = booking.getEnd();
-        if (endBookingDate.isBefore(startBookingDate) || endBookingDate.isEqual(startBookingDate)) {
+        if (startBookingDate == null || endBookingDate == null || !endBookingDate.isAfter(startBookingDate)) {
             throw new IncorrectBookingDatesException(startBookingDate, endBookingDate);
         }
     }
 
+    private void checkBookingFilter(BookingFilter filter) {
+        if (filter.getState() == BookingState.UNSUPPORTED_STATUS) {
+            throw new UnknownStateException(BookingState.UNSUPPORTED_STATUS);
+        }
+        LocalDateTime rangeStart = filter.getRangeStart();
+        LocalDateTime rangeEnd = filter.getRangeEnd();
+        if (rangeStart != null && rangeEnd != null && !rangeEnd.isAfter(rangeStart)) {
+            throw new IncorrectDateRangeException(rangeStart, rangeEnd);
+        }
+    }
+
+    private void checkBookingPeriodIsFree(Booking booking) {
+        Long itemId = booking.getItem().getId();
+        boolean periodIsTaken = bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(itemId,
+                BookingStatus.APPROVED, booking.getEnd(), booking.getStart());
+        if (periodIsTaken) {
+            throw new BookingPeriodAlreadyTakenException(itemId, booking.getStart(), booking.getEnd());
+        }
+    }
+
+    private void checkBookingPeriodIsFree(Booking booking, List<BookingForItemView> approvedBookings) {
+        for (BookingForItemView approvedBooking : approvedBookings) {
+            if (approvedBooking.getStart().isBefore(booking.getEnd())
+                    && approvedBooking.getEnd().isAfter(booking.getStart())) {
+                throw new BookingPeriodAlreadyTakenException(booking.getItem().getId(), booking.getStart(),
+                        booking.getEnd());
+            }
+        }
+    }
+
+    private Map<Long, List<BookingForItemView>> findApprovedBookingsGroupedByItemId(
+            Collection<Long> itemIds, List<BookingDtoRequest> bookingDtoRequests) {
+        LocalDateTime start = bookingDtoRequests.stream()
+                .map(BookingDtoRequest::getStart)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        LocalDateTime end = bookingDtoRequests.stream()
+                .map(BookingDtoRequest::getEnd)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (itemIds.isEmpty() || start == null || end == null) {
+            return Collections.emptyMap();
+        }
+        return bookingRepository.findApprovedBookingsOverlappingPeriod(itemIds, start, end).stream()
+                .collect(Collectors.groupingBy(BookingForItemView::getItemId));
+    }
+
     private Booking getBookingByIdWithoutCheckAccess(Long id) {
         return bookingRepository.findById(id).orElseThrow(() -> new BookingNotFoundException(id));
     }
@@ -177,6 +276,8 @@ public class BookingServiceImpl implements BookingService {
 
     private void changeBookingStatus(Booking booking, Boolean approved) {
         if (approved) {
+            itemRepository.incrementVersion(booking.getItem());
+            checkBookingPeriodIsFree(booking);
             booking.setStatus(BookingStatus.APPROVED);
         } else {
             booking.setStatus(BookingStatus.REJECTED);
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.exception;
+
+import java.time.LocalDateTime;
+
+public class BookingPeriodAlreadyTakenException extends RuntimeException {
+    public BookingPeriodAlreadyTakenException(Long itemId, LocalDateTime start, LocalDateTime end) {
+        super(String.format("Item with id=%s is already booked for the period from %s to %s", itemId, start, end));
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.exception;
+
+import java.time.LocalDateTime;
+
+public class IncorrectDateRangeException extends RuntimeException {
+    public IncorrectDateRangeException(LocalDateTime rangeStart, LocalDateTime rangeEnd) {
+        super(String.format("The end of the date range %s cannot be earlier or equal the start %s",
+                rangeEnd, rangeStart));
+    }
+}
@@ -2,6 +2,7 @@ package ru.practicum.shareit.exception.handler;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -31,6 +32,14 @@ public class GlobalExceptionHandler {
         return new ErrorMessage(409, message);
     }
 
+    @ExceptionHandler(BookingPeriodAlreadyTakenException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorMessage handleBookingPeriodAlreadyTakenException(BookingPeriodAlreadyTakenException exception) {
+        String message = exception.getMessage();
+        log.warn("BookingPeriodAlreadyTakenException: {}", message);
+        return new ErrorMessage(409, message);
+    }
+
     @ExceptionHandler(NotOwnerItemException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ErrorMessage handleNotOwnerItemException(NotOwnerItemException exception) {
@@ -64,6 +73,14 @@ public class GlobalExceptionHandler {
         return new ErrorMessage(400, message);
     }
 
+    @ExceptionHandler(IncorrectDateRangeException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorMessage handleIncorrectDateRangeException(IncorrectDateRangeException exception) {
+        String message = exception.getMessage();
+        log.warn("IncorrectDateRangeException: {}", message);
+        return new ErrorMessage(400, message);
+    }
+
     @ExceptionHandler(UserDidNotBookingItemException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorMessage handleUserDidNotBookingItemException(UserDidNotBookingItemException exception) {
@@ -80,6 +97,14 @@ public class GlobalExceptionHandler {
         return new ErrorMessage(400, message);
     }
 
+    @ExceptionHandler(IncorrectCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorMessage handleIncorrectCursorException(IncorrectCursorException exception) {
+        String message = exception.getMessage();
+        log.warn("IncorrectCursorException: {}", message);
+        return new ErrorMessage(400, message);
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorMessage handleDataIntegrityViolationException(DataIntegrityViolationException exception) {
@@ -87,4 +112,11 @@ public class GlobalExceptionHandler {
         log.warn("DataIntegrityViolationException: {}", message);
         return new ErrorMessage(409, message);
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorMessage handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+        log.warn("OptimisticLockingFailureException: {}", exception.getMessage());
+        return new ErrorMessage(409, "The data was modified concurrently by another request, try again");
+    }
 }
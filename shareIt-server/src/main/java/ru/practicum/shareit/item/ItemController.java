@@ -1,13 +1,19 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.util.HeaderName;
 
 import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 @RestController
@@ -15,7 +21,9 @@ import java.util.List;
 @RequiredArgsConstructor
 @Slf4j
 public class ItemController {
+    private static final int STREAM_CHUNK_SIZE = 100;
     private final ItemService itemService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ItemDtoResponse createItem(@RequestHeader(HeaderName.SHARER_USER_ID) Long userId,
@@ -42,10 +50,31 @@ public class ItemController {
     }
 
     @GetMapping()
-    public List<ItemDtoResponseWithDate> getAllItemsByOwnerId(@RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
-                                                              HttpServletRequest request) {
+    public ResponseEntity<List<ItemDtoResponseWithDate>> getAllItemsByOwnerId(
+            @RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
+            @RequestParam(defaultValue = "0") Integer from,
+            @RequestParam(defaultValue = "100") Integer size,
+            @RequestParam(required = false) String cursor,
+            HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        List<ItemDtoResponseWithDate> items = (cursor == null)
+                ? itemService.getAllItemsByOwnerId(ownerId, from, size)
+                : itemService.getAllItemsByOwnerIdAfterCursor(ownerId, ItemCursor.decode(cursor), size);
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+        if (!items.isEmpty() && items.size() == size) {
+            ItemDtoResponseWithDate lastItem = items.get(items.size() - 1);
+            responseBuilder.header(HeaderName.NEXT_CURSOR, ItemCursor.of(lastItem).encode());
+        }
+        return responseBuilder.body(items);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllItemsByOwnerId(
+            @RequestHeader(HeaderName.SHARER_USER_ID) Long ownerId,
+            HttpServletRequest request) {
         log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return itemService.getAllItemsByOwnerId(ownerId);
+        StreamingResponseBody body = outputStream -> writeAllItemsByOwnerId(ownerId, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     @PatchMapping("/{id}")
@@ -58,9 +87,28 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public List<ItemDtoResponse> getAvailableItemsByText(@RequestParam String text, HttpServletRequest request) {
-        log.debug("{} request {} received", request.getMethod(), request.getRequestURI());
-        return itemService.getAvailableItemsByText(text);
+    public List<ItemDtoResponse> getAvailableItemsByText(@RequestParam String text,
+                                                         @RequestParam(defaultValue = "0") Integer from,
+                                                         @RequestParam(defaultValue = "100") Integer size,
+                                                         HttpServletRequest request) {
+        log.debug("{} request {}?{} received", request.getMethod(), request.getRequestURI(), request.getQueryString());
+        return itemService.getAvailableItemsByText(text, from, size);
+    }
+
+    private void writeAllItemsByOwnerId(Long ownerId, OutputStream outputStream) throws IOException {
+        List<ItemDtoResponseWithDate> items = itemService.getAllItemsByOwnerId(ownerId, 0, STREAM_CHUNK_SIZE);
+        while (!items.isEmpty()) {
+            for (ItemDtoResponseWithDate item : items) {
+                outputStream.write(objectMapper.writeValueAsBytes(item));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+            if (items.size() < STREAM_CHUNK_SIZE) {
+                break;
+            }
+            ItemCursor cursor = ItemCursor.of(items.get(items.size() - 1));
+            items = itemService.getAllItemsByOwnerIdAfterCursor(ownerId, cursor, STREAM_CHUNK_SIZE);
+        }
     }
 }
 
@@ -18,6 +18,7 @@ public interface ItemMapper {
     @Mapping(target = "id", source = "itemDtoRequest.id")
     @Mapping(target = "name", source = "itemDtoRequest.name")
     @Mapping(target = "description", source = "itemDtoRequest.description")
+    @Mapping(target = "version", ignore = true)
     Item toItem(ItemDtoRequest itemDtoRequest, User owner, ItemRequest request);
 
     @Mapping(target = "id", source = "item.id")
@@ -31,6 +32,7 @@ public interface ItemMapper {
 
     @Mapping(target = "owner", ignore = true)
     @Mapping(target = "request", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     Item updateItemFromDto(ItemDtoRequest itemDtoRequest, @MappingTarget Item item);
 }
@@ -1,12 +1,16 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.practicum.shareit.item.entity.Comment;
+import ru.practicum.shareit.item.entity.Item;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    @EntityGraph(Comment.WITH_AUTHOR)
     List<Comment> findAllByItemId(Long id);
 
-    List<Comment> findAllByItemOwnerId(Long id);
+    @EntityGraph(Comment.WITH_AUTHOR)
+    List<Comment> findAllByItemIn(List<Item> items);
 }
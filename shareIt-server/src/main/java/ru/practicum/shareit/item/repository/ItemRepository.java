@@ -1,23 +1,36 @@
 package ru.practicum.shareit.item.repository;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.request.entity.ItemRequest;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
-    List<Item> findAllByOwnerId(Long ownerId, Sort sort);
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemRepositoryCustom {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Item> findAllByOwnerId(Long ownerId, Pageable pageable);
+
+    List<Item> findAllByOwnerIdAndIdGreaterThan(Long ownerId, Long id, Pageable pageable);
 
     @Query("select item from Item item" +
             " where (upper(item.name) like upper(concat('%', ?1, '%'))" +
             "     or upper(item.description) like upper(concat('%', ?1, '%')))" +
-            " and item.available = true")
-    List<Item> findAvailableItemsByText(String text);
+            " and item.available = true" +
+            " order by case" +
+            "     when upper(item.name) like upper(concat(?1, '%')) then 0" +
+            "     when upper(item.name) like upper(concat('%', ?1, '%')) then 1" +
+            "     else 2 end, item.id")
+    List<Item> findAvailableItemsByText(String text, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Item> findAllByRequestIn(List<ItemRequest> itemRequests);
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<Item> findAllByRequest(ItemRequest itemRequest);
 }
@@ -0,0 +1,7 @@
+package ru.practicum.shareit.item.repository;
+
+import ru.practicum.shareit.item.entity.Item;
+
+public interface ItemRepositoryCustom {
+    void incrementVersion(Item item);
+}
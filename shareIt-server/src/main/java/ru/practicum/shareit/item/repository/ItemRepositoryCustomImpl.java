@@ -0,0 +1,17 @@
+package ru.practicum.shareit.item.repository;
+
+import lombok.RequiredArgsConstructor;
+import ru.practicum.shareit.item.entity.Item;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+
+@RequiredArgsConstructor
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+    private final EntityManager entityManager;
+
+    @Override
+    public void incrementVersion(Item item) {
+        entityManager.lock(item, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+    }
+}
@@ -9,11 +9,13 @@ public interface ItemService {
 
     ItemDtoResponseWithDate getItemById(Long id, Long userId);
 
-    List<ItemDtoResponseWithDate> getAllItemsByOwnerId(Long id);
+    List<ItemDtoResponseWithDate> getAllItemsByOwnerId(Long id, Integer from, Integer size);
+
+    List<ItemDtoResponseWithDate> getAllItemsByOwnerIdAfterCursor(Long id, ItemCursor cursor, Integer size);
 
     ItemDtoResponse updateItem(Long id, ItemDtoRequest itemDtoRequest, Long ownerId);
 
-    List<ItemDtoResponse> getAvailableItemsByText(String text);
+    List<ItemDtoResponse> getAvailableItemsByText(String text, Integer from, Integer size);
 
     CommentDtoResponse createComment(Long itemId, CommentDtoRequest commentDtoRequest, Long userId);
 }
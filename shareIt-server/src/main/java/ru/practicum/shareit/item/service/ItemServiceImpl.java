@@ -2,10 +2,12 @@ package ru.practicum.shareit.item.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingDtoForItem;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.repository.BookingRepository;
@@ -25,12 +27,14 @@ import ru.practicum.shareit.util.DateUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
+    private static final Sort SORT_BY_ID = Sort.by("id");
     private final ItemRepository itemRepository;
     private final ItemMapper itemMapper;
     private final BookingRepository bookingRepository;
@@ -39,11 +43,12 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemViewCache itemViewCache;
 
     @Override
     @Transactional
     public ItemDtoResponse createItem(ItemDtoRequest itemDtoRequest, Long ownerId) {
-        User owner = getUserById(ownerId);
+        User owner = getUserReferenceById(ownerId);
         ItemRequest itemRequest = getItemRequestById(itemDtoRequest.getRequestId());
         Item item = itemMapper.toItem(itemDtoRequest, owner, itemRequest);
         Item savedItem = itemRepository.save(item);
@@ -53,21 +58,33 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public ItemDtoResponseWithDate getItemById(Long id, Long userId) {
+        ItemDtoResponseWithDate cachedDto = itemViewCache.get(id, userId);
+        if (cachedDto != null) {
+            log.debug("Item with id={} was obtained from the cache: {}", id, cachedDto);
+            return cachedDto;
+        }
+        long generation = itemViewCache.currentGeneration(id);
         Item item = getItemByIdWithoutCheckAccess(id);
-        List<Booking> bookings = bookingRepository.findAllSortedByStartApprovedBookingsByItemId(id);
         List<Comment> comments = commentRepository.findAllByItemId(id);
-        ItemDtoResponseWithDate dto = buildItemDtoResponseWithDate(userId, item, bookings, comments);
+        ItemDtoResponseWithDate dto = buildItemDtoResponseWithDate(userId, item, comments, generation);
         log.debug("Item with id={} was obtained from the database: {}", id, item);
         return dto;
     }
 
     @Override
-    public List<ItemDtoResponseWithDate> getAllItemsByOwnerId(Long id) {
-        List<Item> items = itemRepository.findAllByOwnerId(id, Sort.by("id"));
-        List<Booking> bookings = bookingRepository.findAllSortedByStartApprovedBookingsByItemOwnerId(id);
-        List<Comment> comments = commentRepository.findAllByItemOwnerId(id);
-        List<ItemDtoResponseWithDate> dtoList = buildItemDtoResponseWithDateList(items, bookings, comments);
-        log.debug("All items for owner with id={} were obtained from the database: {}", id, items);
+    public List<ItemDtoResponseWithDate> getAllItemsByOwnerId(Long id, Integer from, Integer size) {
+        List<Item> items = itemRepository.findAllByOwnerId(id, PageRequest.of(from / size, size, SORT_BY_ID));
+        List<ItemDtoResponseWithDate> dtoList = buildItemDtoResponseWithDateList(items);
+        log.debug("Items for owner with id={} were obtained from the database: {}", id, items);
+        return dtoList;
+    }
+
+    @Override
+    public List<ItemDtoResponseWithDate> getAllItemsByOwnerIdAfterCursor(Long id, ItemCursor cursor, Integer size) {
+        List<Item> items = itemRepository.findAllByOwnerIdAndIdGreaterThan(id, cursor.getId(),
+                PageRequest.of(0, size, SORT_BY_ID));
+        List<ItemDtoResponseWithDate> dtoList = buildItemDtoResponseWithDateList(items);
+        log.debug("Items for owner with id={} after {} were obtained from the database: {}", id, cursor, items);
         return dtoList;
     }
 
@@ -78,14 +95,15 @@ public class ItemServiceImpl implements ItemService {
         checkItemOwner(item, userId);
         Item oldItemWithUpdate = itemMapper.updateItemFromDto(itemDtoRequest, item);
         Item updatedItem = itemRepository.save(oldItemWithUpdate);
+        itemViewCache.evict(id);
         log.debug("Item with id={} successfully updated in the database: {}", id, updatedItem);
         return itemMapper.toItemDtoResponse(updatedItem);
     }
 
     @Override
-    public List<ItemDtoResponse> getAvailableItemsByText(String text) {
+    public List<ItemDtoResponse> getAvailableItemsByText(String text, Integer from, Integer size) {
         List<Item> items = text.isEmpty() ? Collections.emptyList() :
-                itemRepository.findAvailableItemsByText(text);
+                itemRepository.findAvailableItemsByText(text, PageRequest.of(from / size, size));
         log.debug("Items containing the text={} are received from the database: {}", text, items);
         return itemMapper.toItemDtoResponseList(items);
     }
@@ -98,6 +116,7 @@ public class ItemServiceImpl implements ItemService {
         User author = getUserById(userId);
         Comment comment = commentMapper.toComment(commentDtoRequest, item, author, DateUtils.now());
         Comment savedComment = commentRepository.save(comment);
+        itemViewCache.evict(itemId);
         log.debug("Comment saved in the database with id={}: {}", savedComment.getId(), item);
         return commentMapper.toCommentDtoResponse(savedComment);
     }
@@ -106,6 +125,13 @@ public class ItemServiceImpl implements ItemService {
         return userRepository.findById(id).orElseThrow(() -> new UserNotFoundException(id));
     }
 
+    private User getUserReferenceById(Long id) {
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException(id);
+        }
+        return userRepository.getReferenceById(id);
+    }
+
     private Item getItemByIdWithoutCheckAccess(Long id) {
         return itemRepository.findById(id).orElseThrow(() -> new ItemNotFoundException(id));
     }
@@ -124,20 +150,29 @@ public class ItemServiceImpl implements ItemService {
         }
     }
 
-    private ItemDtoResponseWithDate buildItemDtoResponseWithDate(Long userId, Item item, List<Booking> bookings,
-                                                                 List<Comment> comments) {
+    private ItemDtoResponseWithDate buildItemDtoResponseWithDate(Long userId, Item item, List<Comment> comments,
+                                                                 long generation) {
         ItemDtoResponseWithDate itemDtoResponseWithDate;
-        if (userId.equals(item.getOwner().getId())) {
-            itemDtoResponseWithDate = buildDtoWithBookingDates(item, bookings, comments);
+        LocalDateTime validUntil = null;
+        Long ownerId = item.getOwner().getId();
+        if (userId.equals(ownerId)) {
+            LocalDateTime now = DateUtils.now();
+            List<BookingForItemView> bookings =
+                    bookingRepository.findLastAndNextApprovedBookings(List.of(item.getId()), now);
+            itemDtoResponseWithDate = buildDtoWithBookingDates(item, bookings, comments, now);
+            BookingForItemView nextBooking = findNextBooking(bookings, now);
+            validUntil = (nextBooking == null) ? null : nextBooking.getStart();
         } else {
             itemDtoResponseWithDate = buildDtoWithoutBookingDates(item, comments);
         }
+        itemViewCache.put(item.getId(), ownerId, userId, itemDtoResponseWithDate, validUntil, generation);
         return itemDtoResponseWithDate;
     }
 
-    private ItemDtoResponseWithDate buildDtoWithBookingDates(Item item, List<Booking> bookings, List<Comment> comments) {
-        Booking lastBooking = calculateLastBookingFromSortedList(bookings);
-        Booking nextBooking = calculateNextBookingFromSortedList(bookings);
+    private ItemDtoResponseWithDate buildDtoWithBookingDates(Item item, List<BookingForItemView> bookings,
+                                                             List<Comment> comments, LocalDateTime now) {
+        BookingForItemView lastBooking = findLastBooking(bookings, now);
+        BookingForItemView nextBooking = findNextBooking(bookings, now);
         BookingDtoForItem lastBookingDto = bookingMapper.toBookingDtoForItem(lastBooking);
         BookingDtoForItem nextBookingDto = bookingMapper.toBookingDtoForItem(nextBooking);
         List<CommentDtoResponse> commentDtoList = commentMapper.toCommentDtoResponseList(comments);
@@ -149,55 +184,55 @@ public class ItemServiceImpl implements ItemService {
         return itemMapper.toItemDtoResponseWithDate(item, null, null, commentDtoList);
     }
 
-    private List<ItemDtoResponseWithDate> buildItemDtoResponseWithDateList(List<Item> items, List<Booking> bookings,
-                                                                           List<Comment> comments) {
-        Map<Item, List<Booking>> groupedBookings = groupBookingsByItemKey(bookings);
-        Map<Item, List<Comment>> groupedComments = groupCommentsByItemKey(comments);
+    private List<ItemDtoResponseWithDate> buildItemDtoResponseWithDateList(List<Item> items) {
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        LocalDateTime now = DateUtils.now();
+        Map<Long, List<BookingForItemView>> groupedBookings = findLastAndNextBookingsGroupedByItemId(items, now);
+        Map<Long, List<Comment>> groupedComments = groupCommentsByItemId(commentRepository.findAllByItemIn(items));
         List<ItemDtoResponseWithDate> responseList = new ArrayList<>();
         for (Item item : items) {
-            List<Booking> currentBookings = groupedBookings.get(item);
-            List<Comment> currentComments = groupedComments.get(item);
+            List<BookingForItemView> currentBookings = groupedBookings.get(item.getId());
+            List<Comment> currentComments = groupedComments.get(item.getId());
             if (currentBookings == null) {
                 responseList.add(buildDtoWithoutBookingDates(item, currentComments));
             } else {
-                responseList.add(buildDtoWithBookingDates(item, currentBookings, currentComments));
+                responseList.add(buildDtoWithBookingDates(item, currentBookings, currentComments, now));
             }
         }
         return responseList;
     }
 
-    private Map<Item, List<Booking>> groupBookingsByItemKey(List<Booking> bookings) {
-        Map<Item, List<Booking>> bookingsMap = new HashMap<>();
-        for (Booking booking : bookings) {
-            Item item = booking.getItem();
-            List<Booking> bookingsForItem = bookingsMap.getOrDefault(item, new ArrayList<>());
-            bookingsForItem.add(booking);
-            bookingsMap.put(item, bookingsForItem);
+    private Map<Long, List<BookingForItemView>> findLastAndNextBookingsGroupedByItemId(List<Item> items,
+                                                                                     LocalDateTime now) {
+        Map<Long, List<BookingForItemView>> bookingsMap = new HashMap<>();
+        List<Long> itemIds = items.stream().map(Item::getId).collect(Collectors.toList());
+        for (BookingForItemView booking : bookingRepository.findLastAndNextApprovedBookings(itemIds, now)) {
+            bookingsMap.computeIfAbsent(booking.getItemId(), itemId -> new ArrayList<>()).add(booking);
         }
         return bookingsMap;
     }
 
-    private Map<Item, List<Comment>> groupCommentsByItemKey(List<Comment> comments) {
-        Map<Item, List<Comment>> commentsMap = new HashMap<>();
+    private Map<Long, List<Comment>> groupCommentsByItemId(List<Comment> comments) {
+        Map<Long, List<Comment>> commentsMap = new HashMap<>();
         for (Comment comment : comments) {
-            Item item = comment.getItem();
-            List<Comment> commentsForItem = commentsMap.getOrDefault(item, new ArrayList<>());
+            Long itemId = comment.getItem().getId();
+            List<Comment> commentsForItem = commentsMap.getOrDefault(itemId, new ArrayList<>());
             commentsForItem.add(comment);
-            commentsMap.put(item, commentsForItem);
+            commentsMap.put(itemId, commentsForItem);
         }
         return commentsMap;
     }
 
-    private Booking calculateLastBookingFromSortedList(List<Booking> bookings) {
-        LocalDateTime now = DateUtils.now();
+    private BookingForItemView findLastBooking(List<BookingForItemView> bookings, LocalDateTime now) {
         return bookings.stream()
                 .filter(booking -> booking.getStart().isBefore(now))
-                .reduce((booking, booking2) -> booking2)
+                .findFirst()
                 .orElse(null);
     }
 
-    private Booking calculateNextBookingFromSortedList(List<Booking> bookings) {
-        LocalDateTime now = DateUtils.now();
+    private BookingForItemView findNextBooking(List<BookingForItemView> bookings, LocalDateTime now) {
         return bookings.stream()
                 .filter(booking -> booking.getStart().isAfter(now))
                 .findFirst()
@@ -0,0 +1,149 @@
+package ru.practicum.shareit.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemDtoResponseWithDate;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+@Slf4j
+public class ItemViewCache {
+    private static final String CACHE_NAME = "itemViews";
+    private static final int GENERATION_STRIPES = 1024;
+    private final Cache<ItemViewKey, ItemView> cache;
+    private final AtomicLongArray itemGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong globalGeneration = new AtomicLong();
+
+    public ItemViewCache(@Value("${shareit.item-view-cache.maximum-size:10000}") long maximumSize,
+                         @Value("${shareit.item-view-cache.ttl:10m}") Duration ttl,
+                         MeterRegistry meterRegistry) {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ItemViewExpiry(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Nullable
+    public ItemDtoResponseWithDate get(Long itemId, Long userId) {
+        ItemView publicView = cache.getIfPresent(new ItemViewKey(itemId, false));
+        if (publicView != null && !publicView.getOwnerId().equals(userId)) {
+            return publicView.getDto();
+        }
+        ItemView ownerView = cache.getIfPresent(new ItemViewKey(itemId, true));
+        if (ownerView != null && ownerView.getOwnerId().equals(userId)) {
+            return ownerView.getDto();
+        }
+        return null;
+    }
+
+    public long currentGeneration(Long itemId) {
+        return globalGeneration.get() + itemGenerations.get(stripe(itemId));
+    }
+
+    public void put(Long itemId, Long ownerId, Long userId, ItemDtoResponseWithDate dto,
+                    @Nullable LocalDateTime validUntil, long generation) {
+        boolean ownerView = ownerId.equals(userId);
+        ItemView view = new ItemView(ownerId, dto, ownerView ? validUntil : null);
+        cache.asMap().compute(new ItemViewKey(itemId, ownerView),
+                (key, cachedView) -> (currentGeneration(itemId) == generation) ? view : cachedView);
+    }
+
+    public void evict(Long itemId) {
+        runNowAndAfterCommit(() -> evictNow(itemId));
+    }
+
+    public void evictAll() {
+        runNowAndAfterCommit(this::evictAllNow);
+    }
+
+    private void evictNow(Long itemId) {
+        itemGenerations.incrementAndGet(stripe(itemId));
+        cache.invalidate(new ItemViewKey(itemId, false));
+        cache.invalidate(new ItemViewKey(itemId, true));
+        log.debug("Cached views of item with id={} were evicted", itemId);
+    }
+
+    private void evictAllNow() {
+        globalGeneration.incrementAndGet();
+        cache.invalidateAll();
+        log.debug("All cached item views were evicted");
+    }
+
+    private static int stripe(Long itemId) {
+        return (int) (itemId % GENERATION_STRIPES);
+    }
+
+    private static void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class ItemViewKey {
+        private final Long itemId;
+        private final boolean ownerView;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class ItemView {
+        private final Long ownerId;
+        private final ItemDtoResponseWithDate dto;
+        private final LocalDateTime validUntil;
+    }
+
+    @RequiredArgsConstructor
+    private static class ItemViewExpiry implements Expiry<ItemViewKey, ItemView> {
+        private final Duration ttl;
+
+        @Override
+        public long expireAfterCreate(ItemViewKey key, ItemView view, long currentTime) {
+            if (view.getValidUntil() == null) {
+                return ttl.toNanos();
+            }
+            Duration untilNextBooking = Duration.between(DateUtils.now(), view.getValidUntil());
+            if (untilNextBooking.isNegative()) {
+                return 0;
+            }
+            return Math.min(ttl.toNanos(), untilNextBooking.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ItemViewKey key, ItemView view, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, view, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ItemViewKey key, ItemView view, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
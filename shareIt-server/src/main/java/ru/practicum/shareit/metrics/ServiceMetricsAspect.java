@@ -0,0 +1,51 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.entity.BookingState;
+
+import java.util.Arrays;
+
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+    public static final String METRIC_NAME = "shareit.service.invocations";
+    private static final String NO_STATE = "none";
+    private static final String SUCCESS = "success";
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(ru.practicum.shareit..service.*ServiceImpl)")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("state", findBookingState(joinPoint.getArgs()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static String findBookingState(Object[] args) {
+        return Arrays.stream(args)
+                .map(arg -> (arg instanceof BookingFilter) ? ((BookingFilter) arg).getState() : arg)
+                .filter(BookingState.class::isInstance)
+                .map(arg -> ((BookingState) arg).name())
+                .findFirst()
+                .orElse(NO_STATE);
+    }
+}
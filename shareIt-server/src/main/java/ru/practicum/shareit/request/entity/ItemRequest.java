@@ -1,6 +1,8 @@
 package ru.practicum.shareit.request.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import ru.practicum.shareit.user.entity.User;
@@ -16,13 +18,16 @@ import java.time.LocalDateTime;
 @ToString
 @Entity
 @Table(name = "item_requests")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "itemRequest")
 public class ItemRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_requests_seq")
+    @SequenceGenerator(name = "item_requests_seq", sequenceName = "item_requests_seq", allocationSize = 50)
     private Long id;
     @Column(length = 500, nullable = false)
     private String description;
-    @ManyToOne(optional = false)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @ToString.Exclude
     @OnDelete(action = OnDeleteAction.CASCADE)
     private User requester;
     @Column(name = "date_created", nullable = false)
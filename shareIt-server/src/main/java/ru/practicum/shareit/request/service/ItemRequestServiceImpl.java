@@ -78,22 +78,23 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     private List<ItemRequestDtoOut> generateItemRequestDtoOutList(List<ItemRequest> requests, List<Item> items) {
-        Map<ItemRequest, List<ItemDtoResponse>> itemReqestMap = groupItemsByItemRequestKey(items);
+        Map<Long, List<ItemDtoResponse>> itemReqestMap = groupItemsByItemRequestId(items);
         List<ItemRequestDtoOut> resultList = new ArrayList<>();
         for (ItemRequest request : requests) {
-            List<ItemDtoResponse> itemDtoResponses = itemReqestMap.getOrDefault(request, Collections.emptyList());
+            List<ItemDtoResponse> itemDtoResponses = itemReqestMap.getOrDefault(request.getId(),
+                    Collections.emptyList());
             resultList.add(itemRequestMapper.toItemRequestDtoOut(request, itemDtoResponses));
         }
         return resultList;
     }
 
-    private Map<ItemRequest, List<ItemDtoResponse>> groupItemsByItemRequestKey(List<Item> items) {
-        Map<ItemRequest, List<ItemDtoResponse>> itemRequestsMap = new HashMap<>();
+    private Map<Long, List<ItemDtoResponse>> groupItemsByItemRequestId(List<Item> items) {
+        Map<Long, List<ItemDtoResponse>> itemRequestsMap = new HashMap<>();
         for (Item item : items) {
-            ItemRequest itemRequest = item.getRequest();
-            List<ItemDtoResponse> itemsForItemRequest = itemRequestsMap.getOrDefault(itemRequest, new ArrayList<>());
+            Long itemRequestId = item.getRequest().getId();
+            List<ItemDtoResponse> itemsForItemRequest = itemRequestsMap.getOrDefault(itemRequestId, new ArrayList<>());
             itemsForItemRequest.add(itemMapper.toItemDtoResponse(item));
-            itemRequestsMap.put(itemRequest, itemsForItemRequest);
+            itemRequestsMap.put(itemRequestId, itemsForItemRequest);
         }
         return itemRequestsMap;
     }
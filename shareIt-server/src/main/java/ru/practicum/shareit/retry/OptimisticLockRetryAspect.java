@@ -0,0 +1,60 @@
+package ru.practicum.shareit.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@Slf4j
+public class OptimisticLockRetryAspect {
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticLockRetryAspect(@Value("${shareit.optimistic-lock.max-attempts:3}") int maxAttempts,
+                                     @Value("${shareit.optimistic-lock.backoff:20ms}") Duration backoff) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoff.toMillis();
+    }
+
+    @Around("@annotation(ru.practicum.shareit.retry.RetryOnOptimisticLock)")
+    public Object retryOnOptimisticLock(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} failed after {} attempts because of concurrent modification",
+                            joinPoint.getSignature().toShortString(), attempt);
+                    throw e;
+                }
+                log.debug("{} attempt {} failed because of concurrent modification, retrying",
+                        joinPoint.getSignature().toShortString(), attempt);
+                pause(attempt, e);
+            }
+        }
+    }
+
+    private void pause(int attempt, OptimisticLockingFailureException cause) {
+        try {
+            Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
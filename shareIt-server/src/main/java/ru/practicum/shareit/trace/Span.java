@@ -0,0 +1,99 @@
+package ru.practicum.shareit.trace;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j(topic = "shareit.trace")
+@Getter
+public class Span {
+    public static final String TRACEPARENT = "traceparent";
+    public static final String TRACE_ID = "traceId";
+    public static final String SPAN_ID = "spanId";
+    private static final Pattern TRACEPARENT_PATTERN =
+            Pattern.compile("^00-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}$");
+    private final String name;
+    private final String traceId;
+    private final String spanId;
+    private final String parentId;
+    private final long startNanos;
+    private String previousTraceId;
+    private String previousSpanId;
+    private boolean current;
+
+    private Span(String name, String traceId, @Nullable String parentId) {
+        this.name = name;
+        this.traceId = traceId;
+        this.spanId = randomHex(16);
+        this.parentId = parentId;
+        this.startNanos = System.nanoTime();
+    }
+
+    public static Span start(String name) {
+        String traceId = MDC.get(TRACE_ID);
+        return (traceId == null) ? new Span(name, randomHex(32), null) : new Span(name, traceId, MDC.get(SPAN_ID));
+    }
+
+    public static Span startFromTraceparent(String name, @Nullable String traceparent) {
+        Matcher matcher = TRACEPARENT_PATTERN.matcher((traceparent == null) ? "" : traceparent);
+        if (matcher.matches()) {
+            return new Span(name, matcher.group(1), matcher.group(2));
+        }
+        return new Span(name, randomHex(32), null);
+    }
+
+    public static void record(String name, long durationNanos, String outcome) {
+        log.debug("span={} traceId={} parentId={} durationMicros={} outcome={}", name, MDC.get(TRACE_ID),
+                MDC.get(SPAN_ID), TimeUnit.NANOSECONDS.toMicros(durationNanos), outcome);
+    }
+
+    public Span makeCurrent() {
+        previousTraceId = MDC.get(TRACE_ID);
+        previousSpanId = MDC.get(SPAN_ID);
+        MDC.put(TRACE_ID, traceId);
+        MDC.put(SPAN_ID, spanId);
+        current = true;
+        return this;
+    }
+
+    public String toTraceparent() {
+        return String.format("00-%s-%s-01", traceId, spanId);
+    }
+
+    public void detach() {
+        if (current) {
+            restore(TRACE_ID, previousTraceId);
+            restore(SPAN_ID, previousSpanId);
+            current = false;
+        }
+    }
+
+    public void end(String outcome) {
+        log.debug("span={} traceId={} spanId={} parentId={} durationMicros={} outcome={}", name, traceId, spanId,
+                parentId, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), outcome);
+        detach();
+    }
+
+    private static void restore(String key, @Nullable String value) {
+        if (value == null) {
+            MDC.remove(key);
+        } else {
+            MDC.put(key, value);
+        }
+    }
+
+    private static String randomHex(int length) {
+        StringBuilder hex = new StringBuilder(length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (hex.length() < length) {
+            hex.append(Long.toHexString(random.nextLong() | Long.MIN_VALUE), 1, 16);
+        }
+        return hex.substring(0, length);
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.trace;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class TracingAspect {
+
+    @Around("within(ru.practicum.shareit..*Controller)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedInSpan("server.controller", joinPoint);
+    }
+
+    @Around("within(ru.practicum.shareit..service.*ServiceImpl)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceedInSpan("server.service", joinPoint);
+    }
+
+    private static Object proceedInSpan(String kind, ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = Span.start(kind + " " + joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName()).makeCurrent();
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            span.end(outcome);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.trace;
+
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.TimeUnit;
+
+public class TracingRepositoryInvocationListener implements RepositoryMethodInvocationListener {
+
+    @Override
+    public void afterInvocation(RepositoryMethodInvocation invocation) {
+        String name = "server.repository " + invocation.getRepositoryInterface().getSimpleName()
+                + "." + invocation.getMethod().getName();
+        Span.record(name, invocation.getDuration(TimeUnit.NANOSECONDS), invocation.getResult().getState().name());
+    }
+}
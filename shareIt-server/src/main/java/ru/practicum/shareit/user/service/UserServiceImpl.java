@@ -2,14 +2,26 @@ package ru.practicum.shareit.user.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.service.ItemViewCache;
+import ru.practicum.shareit.request.entity.ItemRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
 
 @Service
@@ -19,6 +31,8 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ItemViewCache itemViewCache;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     @Transactional
@@ -29,6 +43,8 @@ public class UserServiceImpl implements UserService {
         return userMapper.toUserDto(createdUser);
     }
 
+    @Override
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id")
     public UserDto getUserById(Long id) {
         User user = getUserByIdWithoutCheckAccess(id);
         log.debug("User with id={} was obtained from the database: {}", id, user);
@@ -37,7 +53,8 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User getUserEntityById(Long userId) {
-        return getUserByIdWithoutCheckAccess(userId);
+        checkUserExists(userId);
+        return userRepository.getReferenceById(userId);
     }
 
     @Override
@@ -49,6 +66,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheConfig.USERS, key = "#id")
     public UserDto updateUser(Long id, UserDto userDto) {
         User oldUser = getUserByIdWithoutCheckAccess(id);
         User oldUserWithPatch = userMapper.updateUserFromDto(userDto, oldUser);
@@ -59,9 +77,31 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.USERS, CacheConfig.USER_EXISTS}, key = "#id")
     public void deleteUser(Long id) {
         checkUserExists(id);
         userRepository.deleteById(id);
+        itemViewCache.evictAll();
+        evictCascadeDeletedEntities();
+    }
+
+    private void evictCascadeDeletedEntities() {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        Runnable eviction = () -> {
+            cache.evictEntityData(Item.class);
+            cache.evictEntityData(ItemRequest.class);
+            cache.evictQueryRegions();
+            log.debug("Second-level cache regions of items and item requests were evicted");
+        };
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
     }
 
     private User getUserByIdWithoutCheckAccess(Long id) {
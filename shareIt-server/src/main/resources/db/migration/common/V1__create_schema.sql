@@ -48,6 +48,8 @@ CREATE TABLE IF NOT EXISTS bookings
     CONSTRAINT FK_BOOKINGS_ON_ITEM FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE
 );
 
+CREATE INDEX IF NOT EXISTS ix_bookings_item_status_start ON bookings (item_id, status, start_date);
+
 CREATE TABLE IF NOT EXISTS comments
 (
     id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
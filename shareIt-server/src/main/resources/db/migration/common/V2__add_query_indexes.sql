@@ -0,0 +1,13 @@
+CREATE INDEX IF NOT EXISTS ix_bookings_booker_start ON bookings (booker_id, start_date);
+
+CREATE INDEX IF NOT EXISTS ix_items_owner ON items (owner_id);
+
+CREATE INDEX IF NOT EXISTS ix_items_request ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS ix_comments_item ON comments (item_id);
+
+CREATE INDEX IF NOT EXISTS ix_comments_author ON comments (author_id);
+
+CREATE INDEX IF NOT EXISTS ix_item_requests_requester_created ON item_requests (requester_id, date_created);
+
+CREATE INDEX IF NOT EXISTS ix_item_requests_created ON item_requests (date_created DESC);
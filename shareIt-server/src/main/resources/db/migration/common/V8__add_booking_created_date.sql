@@ -0,0 +1,5 @@
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS date_created TIMESTAMP WITHOUT TIME ZONE DEFAULT LOCALTIMESTAMP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS ix_bookings_status_start ON bookings (status, start_date);
+
+CREATE INDEX IF NOT EXISTS ix_bookings_status_created ON bookings (status, date_created);
@@ -0,0 +1 @@
+ALTER TABLE bookings ALTER COLUMN id SET DEFAULT nextval('bookings_seq');
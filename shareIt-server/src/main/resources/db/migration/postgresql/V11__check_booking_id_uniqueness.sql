@@ -0,0 +1,20 @@
+-- The primary key of the partitioned bookings table includes the partition keys (archived, start_date),
+-- so PostgreSQL no longer enforces a unique id on its own. Ids come only from bookings_seq (see V10);
+-- every insert into the hot partition is additionally checked against all partitions under an advisory lock.
+-- Archiving moves rows from bookings_hot to bookings_archive and keeps their ids, so it is not checked.
+CREATE OR REPLACE FUNCTION check_booking_id_is_unique() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_advisory_xact_lock(NEW.id);
+    IF EXISTS(SELECT 1 FROM bookings WHERE id = NEW.id) THEN
+        RAISE unique_violation USING MESSAGE = format('Booking with id=%s already exists', NEW.id);
+    END IF;
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER tr_bookings_hot_unique_id
+    BEFORE INSERT
+    ON bookings_hot
+    FOR EACH ROW
+EXECUTE FUNCTION check_booking_id_is_unique();
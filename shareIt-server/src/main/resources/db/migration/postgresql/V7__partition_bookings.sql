@@ -0,0 +1,51 @@
+ALTER TABLE bookings RENAME TO bookings_unpartitioned;
+ALTER TABLE bookings_unpartitioned RENAME CONSTRAINT pk_bookings TO pk_bookings_unpartitioned;
+
+CREATE TABLE bookings
+(
+    id         BIGINT                      NOT NULL,
+    start_date TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    end_date   TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    item_id    BIGINT                      NOT NULL,
+    booker_id  BIGINT                      NOT NULL,
+    status     VARCHAR(15)                 NOT NULL,
+    archived   BOOLEAN DEFAULT FALSE       NOT NULL,
+
+    CONSTRAINT pk_bookings PRIMARY KEY (id, archived, start_date),
+    CONSTRAINT FK_BOOKINGS_ON_BOOKER FOREIGN KEY (booker_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT FK_BOOKINGS_ON_ITEM FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE
+) PARTITION BY LIST (archived);
+
+CREATE TABLE bookings_hot PARTITION OF bookings FOR VALUES IN (FALSE);
+
+CREATE TABLE bookings_archive PARTITION OF bookings FOR VALUES IN (TRUE) PARTITION BY RANGE (start_date);
+
+CREATE TABLE bookings_archive_default PARTITION OF bookings_archive DEFAULT;
+
+DO
+$$
+    DECLARE
+        archive_year INT;
+    BEGIN
+        FOR archive_year IN
+            SELECT generate_series(COALESCE(EXTRACT(YEAR FROM MIN(start_date))::INT,
+                                            EXTRACT(YEAR FROM now())::INT),
+                                   EXTRACT(YEAR FROM now())::INT + 1)
+            FROM bookings_unpartitioned
+            LOOP
+                EXECUTE format('CREATE TABLE bookings_archive_y%s PARTITION OF bookings_archive'
+                                   || ' FOR VALUES FROM (%L) TO (%L)',
+                               archive_year, make_date(archive_year, 1, 1), make_date(archive_year + 1, 1, 1));
+            END LOOP;
+    END
+$$;
+
+INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status, archived)
+SELECT id, start_date, end_date, item_id, booker_id, status, archived
+FROM bookings_unpartitioned;
+
+DROP TABLE bookings_unpartitioned;
+
+CREATE INDEX ix_bookings_item_status_start ON bookings (item_id, status, start_date);
+CREATE INDEX ix_bookings_booker_start ON bookings (booker_id, start_date);
+CREATE INDEX ix_bookings_archived_end ON bookings (archived, end_date);
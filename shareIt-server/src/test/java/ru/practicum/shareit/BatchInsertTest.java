@@ -0,0 +1,47 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.SqlStatementCollector;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.util.SqlStatementCollector")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BatchInsertTest {
+    private static final int USER_COUNT = 120;
+    private final UserRepository userRepository;
+    private final TestEntityManager entityManager;
+
+    @BeforeEach
+    void clearStatements() {
+        SqlStatementCollector.clear();
+    }
+
+    @Test
+    void saveAllAllocatesIdsInBlocksAndBatchesInserts() {
+        List<User> users = IntStream.range(0, USER_COUNT)
+                .mapToObj(i -> User.builder().name("user" + i).email("user" + i + "@mail.ru").build())
+                .collect(Collectors.toList());
+
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        List<String> statements = SqlStatementCollector.getStatements();
+        assertThat(statements.stream().filter(sql -> sql.contains("nextval"))).hasSize(3);
+        assertThat(statements.stream().filter(sql -> sql.startsWith("insert"))).hasSize(1);
+        assertThat(users).extracting(User::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(userRepository.count()).isEqualTo(USER_COUNT);
+    }
+}
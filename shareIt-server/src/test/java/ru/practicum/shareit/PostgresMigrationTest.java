@@ -0,0 +1,148 @@
+package ru.practicum.shareit;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostgresMigrationTest {
+    private static final LocalDateTime NOW = DateUtils.now();
+    private static final LocalDateTime ARCHIVED_START = LocalDateTime.of(2019, 3, 1, 10, 0);
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+    private static long archivedId;
+    private static long pastId;
+    private static long futureId;
+
+    @BeforeAll
+    static void migrateDatabaseWithLegacyData() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        migrate("2");
+        Long ownerId = insertReturningId("INSERT INTO users (name, email) VALUES ('Owner', 'owner@mail.ru')");
+        Long bookerId = insertReturningId("INSERT INTO users (name, email) VALUES ('Booker', 'booker@mail.ru')");
+        Long itemId = insertReturningId("INSERT INTO items (name, description, available, owner_id)" +
+                " VALUES ('Saw', 'Sharp saw', TRUE, ?)", ownerId);
+        archivedId = insertBooking(ARCHIVED_START, itemId, bookerId);
+        pastId = insertBooking(NOW.minusDays(100), itemId, bookerId);
+        futureId = insertBooking(NOW.plusDays(1), itemId, bookerId);
+        migrate("6");
+        jdbcTemplate.update("UPDATE bookings SET archived = TRUE WHERE id = ?", archivedId);
+        migrate(null);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void migrate_whenBookingsExist_thenTheyAreCopiedIntoPartitions() {
+        assertThat(partitionOf(archivedId)).isEqualTo("bookings_archive_y2019");
+        assertThat(partitionOf(pastId)).isEqualTo("bookings_hot");
+        assertThat(partitionOf(futureId)).isEqualTo("bookings_hot");
+        assertThat(jdbcTemplate.queryForList("SELECT inhrelid::regclass::text FROM pg_inherits" +
+                " WHERE inhparent = 'bookings_archive'::regclass", String.class))
+                .containsAll(IntStream.rangeClosed(ARCHIVED_START.getYear(), NOW.getYear() + 1)
+                        .mapToObj(year -> "bookings_archive_y" + year)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void insertBooking_whenIdIsAbsent_thenItIsTakenFromSequence() {
+        long id = insertBooking(NOW.plusDays(5), itemId(), bookerId());
+
+        assertThat(id).isGreaterThan(futureId);
+        assertThat(jdbcTemplate.queryForObject("SELECT last_value FROM bookings_seq", Long.class)).isEqualTo(id);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"users", "item_requests", "items", "bookings", "comments"})
+    void idColumn_thenItsOnlySourceIsTableSequence(String table) {
+        assertThat(jdbcTemplate.queryForObject("SELECT is_identity || ':' || column_default" +
+                " FROM information_schema.columns WHERE table_name = ? AND column_name = 'id'", String.class, table))
+                .isEqualTo("NO:nextval('" + table + "_seq'::regclass)");
+    }
+
+    @Test
+    void insertUser_whenIdIsAbsent_thenItIsTakenFromSequenceAfterLegacyIds() {
+        Long id = insertReturningId("INSERT INTO users (name, email) VALUES ('New', 'new@mail.ru')");
+
+        assertThat(id).isGreaterThan(bookerId());
+        assertThat(jdbcTemplate.queryForObject("SELECT last_value FROM users_seq", Long.class)).isEqualTo(id);
+    }
+
+    @Test
+    void insertBooking_whenIdIsTakenInAnyPartition_thenThrowUniqueViolation() {
+        assertThatThrownBy(() -> insertBookingWithId(archivedId, NOW.plusDays(10)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("Booking with id=%d already exists", archivedId);
+        assertThatThrownBy(() -> insertBookingWithId(futureId, NOW.plusDays(11)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void archiveBooking_thenRowMovesToYearPartitionAndItsIdStaysTaken() {
+        long id = insertBooking(NOW.minusDays(200), itemId(), bookerId());
+
+        jdbcTemplate.update("UPDATE bookings SET archived = TRUE, version = version + 1 WHERE id = ?", id);
+
+        assertThat(partitionOf(id)).isEqualTo("bookings_archive_y" + NOW.minusDays(200).getYear());
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM bookings WHERE id = ?", Long.class, id))
+                .isEqualTo(1);
+        assertThatThrownBy(() -> insertBookingWithId(id, NOW.plusDays(12)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static void migrate(String target) {
+        Flyway.configure()
+                .dataSource(postgres.getPostgresDatabase())
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                .target((target == null) ? "latest" : target)
+                .load()
+                .migrate();
+    }
+
+    private static long insertBooking(LocalDateTime start, Long itemId, Long bookerId) {
+        return insertReturningId("INSERT INTO bookings (start_date, end_date, item_id, booker_id, status)" +
+                " VALUES (?, ?, ?, ?, 'APPROVED')", start, start.plusDays(1), itemId, bookerId);
+    }
+
+    private static void insertBookingWithId(long id, LocalDateTime start) {
+        jdbcTemplate.update("INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status)" +
+                " VALUES (?, ?, ?, ?, ?, 'WAITING')", id, start, start.plusDays(1), itemId(), bookerId());
+    }
+
+    private static Long insertReturningId(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql + " RETURNING id", Long.class, args);
+    }
+
+    private static String partitionOf(long bookingId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM bookings WHERE id = ?",
+                String.class, bookingId);
+    }
+
+    private static Long itemId() {
+        return jdbcTemplate.queryForObject("SELECT min(id) FROM items", Long.class);
+    }
+
+    private static Long bookerId() {
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+        return userIds.get(1);
+    }
+}
@@ -0,0 +1,134 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.entity.BookingState;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.repository.BookingRole;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.util.DateUtils;
+import ru.practicum.shareit.util.SqlStatementCollector;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "ru.practicum.shareit.util.SqlStatementCollector")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class QueryIndexUsageTest {
+    private static final LocalDateTime NOW = DateUtils.now();
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+    private static final List<BookingState> SUPPORTED_STATES = List.of(BookingState.ALL, BookingState.WAITING,
+            BookingState.PAST, BookingState.CURRENT, BookingState.FUTURE, BookingState.REJECTED, BookingState.EXPIRED);
+    private static final BookingFilter FILTER_BY_ITEM_AND_RANGE = BookingFilter.builder()
+            .itemId(1L)
+            .rangeStart(NOW)
+            .rangeEnd(NOW.plusDays(1))
+            .build();
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final CommentRepository commentRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final DataSource dataSource;
+
+    @BeforeEach
+    void clearStatements() {
+        SqlStatementCollector.clear();
+    }
+
+    @Test
+    void bookerBookingQueriesUseIndexes() throws SQLException {
+        for (BookingState state : SUPPORTED_STATES) {
+            bookingRepository.findBookings(BookingRole.BOOKER, 1L, BookingFilter.of(state), NOW, PAGE);
+        }
+        bookingRepository.findBookings(BookingRole.BOOKER, 1L, FILTER_BY_ITEM_AND_RANGE, NOW, PAGE);
+        bookingRepository.findBookingsAfterCursor(BookingRole.BOOKER, 1L, BookingFilter.of(BookingState.ALL), NOW,
+                new BookingCursor(NOW, 1L), 10);
+
+        assertAllStatementsUseIndexes(SUPPORTED_STATES.size() + 2);
+    }
+
+    @Test
+    void itemOwnerBookingQueriesUseIndexes() throws SQLException {
+        for (BookingState state : SUPPORTED_STATES) {
+            bookingRepository.findBookings(BookingRole.ITEM_OWNER, 1L, BookingFilter.of(state), NOW, PAGE);
+        }
+        bookingRepository.findBookings(BookingRole.ITEM_OWNER, 1L, FILTER_BY_ITEM_AND_RANGE, NOW, PAGE);
+        bookingRepository.findBookingsAfterCursor(BookingRole.ITEM_OWNER, 1L, BookingFilter.of(BookingState.ALL),
+                NOW, new BookingCursor(NOW, 1L), 10);
+
+        assertAllStatementsUseIndexes(SUPPORTED_STATES.size() + 2);
+    }
+
+    @Test
+    void itemBookingQueriesUseIndexes() throws SQLException {
+        bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(1L, BookingStatus.APPROVED, NOW, NOW);
+        bookingRepository.findLastAndNextApprovedBookings(List.of(1L, 2L), NOW);
+        bookingRepository.findAllRealItemBookingsForUserAtTheMoment(1L, 1L, NOW);
+
+        assertAllStatementsUseIndexes(3);
+    }
+
+    @Test
+    void itemAndCommentQueriesUseIndexes() throws SQLException {
+        itemRepository.findAllByOwnerId(1L, PageRequest.of(0, 10, Sort.by("id")));
+        itemRepository.findAllByOwnerIdAndIdGreaterThan(1L, 1L, PageRequest.of(0, 10, Sort.by("id")));
+        itemRepository.findAllByRequest(ItemRequest.builder().id(1L).build());
+        itemRepository.findAllByRequestIn(List.of(ItemRequest.builder().id(1L).build()));
+        commentRepository.findAllByItemId(1L);
+        commentRepository.findAllByItemIn(List.of(Item.builder().id(1L).version(0L).build()));
+
+        assertAllStatementsUseIndexes(6);
+    }
+
+    @Test
+    void itemRequestQueriesUseIndexes() throws SQLException {
+        itemRequestRepository.findAllByRequesterId(1L, Sort.by("created").descending());
+        itemRequestRepository.findAllNotOwnItemRequests(1L, PageRequest.of(0, 10));
+
+        assertAllStatementsUseIndexes(2);
+    }
+
+    private void assertAllStatementsUseIndexes(int expectedStatementCount) throws SQLException {
+        List<String> statements = SqlStatementCollector.getStatements();
+        assertThat(statements).hasSize(expectedStatementCount);
+        for (String statement : statements) {
+            String plan = explain(statement);
+            assertThat(plan).as("Query plan of %s", statement).doesNotContain("tableScan");
+        }
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
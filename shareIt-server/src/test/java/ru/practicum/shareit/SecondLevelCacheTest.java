@@ -0,0 +1,169 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemDtoResponseWithDate;
+import ru.practicum.shareit.item.entity.Comment;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.DateUtils;
+
+import javax.persistence.EntityManagerFactory;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class SecondLevelCacheTest {
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private User user;
+    private Item item;
+    private ItemRequest itemRequest;
+    private Statistics statistics;
+
+    @BeforeEach
+    void createData() {
+        user = userRepository.save(User.builder().name("Name").email("cache@mail.ru").build());
+        itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("Need a saw")
+                .requester(user)
+                .created(DateUtils.now())
+                .build());
+        item = itemRepository.save(Item.builder()
+                .name("Saw")
+                .description("Sharp saw")
+                .available(true)
+                .owner(user)
+                .request(itemRequest)
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void deleteData() {
+        itemRepository.deleteAllInBatch();
+        itemRequestRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findById_whenCalledInSeparateTransactions_thenEntitiesComeFromSecondLevelCache() {
+        for (int i = 0; i < 3; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                assertThat(userRepository.findById(user.getId())).isPresent();
+                assertThat(itemRepository.findById(item.getId())).isPresent();
+                assertThat(itemRequestRepository.findById(itemRequest.getId())).isPresent();
+            });
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(9);
+    }
+
+    @Test
+    void findById_whenEntityIsUpdated_thenCachedEntityIsRefreshed() {
+        item.setName("Hammer");
+        itemRepository.save(item);
+        statistics.clear();
+
+        Item cachedItem = transactionTemplate.execute(status -> itemRepository.findById(item.getId()).orElseThrow());
+
+        assertThat(cachedItem.getName()).isEqualTo("Hammer");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void findAllByRequesterId_whenCalledAgain_thenResultComesFromQueryCache() {
+        Sort sort = Sort.by(Sort.Direction.DESC, "created");
+        itemRequestRepository.findAllByRequesterId(user.getId(), sort);
+        statistics.clear();
+
+        assertThat(itemRequestRepository.findAllByRequesterId(user.getId(), sort)).hasSize(1);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_whenOwnerIsDeleted_thenCascadeDeletedEntitiesAreNotServedFromCache() {
+        PageRequest page = PageRequest.of(0, 10);
+        Sort sort = Sort.by(Sort.Direction.DESC, "created");
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(itemRepository.findById(item.getId())).isPresent();
+            assertThat(itemRequestRepository.findById(itemRequest.getId())).isPresent();
+            assertThat(itemRepository.findAllByOwnerId(user.getId(), page)).hasSize(1);
+            assertThat(itemRepository.findAllByRequestIn(List.of(itemRequest))).hasSize(1);
+            assertThat(itemRepository.findAllByRequest(itemRequest)).hasSize(1);
+            assertThat(itemRequestRepository.findAllByRequesterId(user.getId(), sort)).hasSize(1);
+        });
+
+        userService.deleteUser(user.getId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(itemRepository.findById(item.getId())).isEmpty();
+            assertThat(itemRequestRepository.findById(itemRequest.getId())).isEmpty();
+            assertThat(itemRepository.findAllByOwnerId(user.getId(), page)).isEmpty();
+            assertThat(itemRepository.findAllByRequestIn(List.of(itemRequest))).isEmpty();
+            assertThat(itemRepository.findAllByRequest(itemRequest)).isEmpty();
+            assertThat(itemRequestRepository.findAllByRequesterId(user.getId(), sort)).isEmpty();
+        });
+    }
+
+    @Test
+    void getItemById_whenCommentAuthorIsDeleted_thenCachedViewDropsTheirCommentAndBooking() {
+        User author = userRepository.save(User.builder().name("Author").email("author@mail.ru").build());
+        bookingRepository.save(Booking.builder()
+                .start(DateUtils.now().minusDays(2))
+                .end(DateUtils.now().minusDays(1))
+                .item(item)
+                .booker(author)
+                .status(BookingStatus.APPROVED)
+                .build());
+        commentRepository.save(Comment.builder()
+                .text("Good saw")
+                .item(item)
+                .author(author)
+                .created(DateUtils.now())
+                .build());
+        ItemDtoResponseWithDate cachedView = itemService.getItemById(item.getId(), user.getId());
+        assertThat(cachedView.getComments()).hasSize(1);
+        assertThat(cachedView.getLastBooking()).isNotNull();
+
+        userService.deleteUser(author.getId());
+
+        ItemDtoResponseWithDate view = itemService.getItemById(item.getId(), user.getId());
+        assertThat(view.getComments()).isEmpty();
+        assertThat(view.getLastBooking()).isNull();
+    }
+}
@@ -0,0 +1,244 @@
+package ru.practicum.shareit;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDtoRequest;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingState;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.entity.Comment;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.user.service.UserService;
+import ru.practicum.shareit.util.DateUtils;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class StatementCountTest {
+    private static final int ITEM_COUNT = 3;
+    private final BookingService bookingService;
+    private final ItemService itemService;
+    private final ItemRequestService itemRequestService;
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private User owner;
+    private User booker;
+    private List<Item> items;
+    private List<Booking> bookings;
+    private Statistics statistics;
+
+    @BeforeEach
+    void createData() {
+        owner = userRepository.save(createUser("owner"));
+        booker = userRepository.save(createUser("booker"));
+        ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("Need a tool")
+                .requester(booker)
+                .created(DateUtils.now())
+                .build());
+        items = new ArrayList<>();
+        bookings = new ArrayList<>();
+        List<Comment> comments = new ArrayList<>();
+        LocalDateTime now = DateUtils.now();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Item item = itemRepository.save(Item.builder()
+                    .name("Item" + i)
+                    .description("Description" + i)
+                    .available(true)
+                    .owner(owner)
+                    .request(itemRequest)
+                    .build());
+            User itemBooker = userRepository.save(createUser("booker" + i));
+            items.add(item);
+            bookings.add(createBooking(item, itemBooker, now.minusDays(i + 2), BookingStatus.APPROVED));
+            bookings.add(createBooking(item, booker, now.plusDays(i + 2), BookingStatus.WAITING));
+            comments.add(Comment.builder().text("Comment" + i).item(item).author(itemBooker).created(now).build());
+        }
+        bookingRepository.saveAll(bookings);
+        commentRepository.saveAll(comments);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void deleteData() {
+        commentRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        itemRequestRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getAllByBookerId() {
+        assertThat(bookingService.getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.ALL), 0, 10))
+                .hasSize(ITEM_COUNT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getAllByItemOwnerId() {
+        assertThat(bookingService.getAllByItemOwnerId(owner.getId(), BookingFilter.of(BookingState.ALL), 0, 10))
+                .hasSize(2 * ITEM_COUNT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getAllByItemOwnerIdAfterCursor() {
+        BookingCursor cursor = new BookingCursor(DateUtils.now().plusYears(1), Long.MAX_VALUE);
+
+        assertThat(bookingService.getAllByItemOwnerIdAfterCursor(owner.getId(), BookingFilter.of(BookingState.ALL),
+                cursor, 10)).hasSize(2 * ITEM_COUNT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getBookingById() {
+        bookingService.getBookingById(bookings.get(0).getId(), owner.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void updateBooking() {
+        bookingService.updateBooking(owner.getId(), bookings.get(1).getId(), true);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+    }
+
+    @Test
+    void createBookings_whenBatchGrows_thenStatementCountStaysConstant() {
+        LocalDateTime start = DateUtils.now().plusYears(1);
+        List<BookingDtoRequest> singleBooking = List.of(createBookingDtoRequest(items.get(0), start));
+        List<BookingDtoRequest> severalBookings = new ArrayList<>();
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            severalBookings.add(createBookingDtoRequest(items.get(i), start.plusDays(i)));
+        }
+
+        bookingService.createBookings(singleBooking, booker.getId());
+        long statementsForSingleBooking = statistics.getPrepareStatementCount();
+        statistics.clear();
+        List<BookingBatchResultDto> results = bookingService.createBookings(severalBookings, booker.getId());
+
+        assertThat(results).allMatch(result -> result.getBooking() != null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsForSingleBooking);
+    }
+
+    @Test
+    void getItemById() {
+        itemService.getItemById(items.get(0).getId(), owner.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getItemById_whenCalledAgain_thenViewIsCachedUntilBookingApproval() {
+        Long itemId = items.get(0).getId();
+        itemService.getItemById(itemId, owner.getId());
+        statistics.clear();
+
+        itemService.getItemById(itemId, owner.getId());
+        long statementsForCachedItem = statistics.getPrepareStatementCount();
+        bookingService.updateBooking(owner.getId(), bookings.get(1).getId(), true);
+        statistics.clear();
+        itemService.getItemById(itemId, owner.getId());
+
+        assertThat(statementsForCachedItem).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getAllItemsByOwnerId() {
+        assertThat(itemService.getAllItemsByOwnerId(owner.getId(), 0, 10)).hasSize(ITEM_COUNT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getAllOwnItemRequests() {
+        assertThat(itemRequestService.getAllOwnItemRequests(booker.getId()).get(0).getItems()).hasSize(ITEM_COUNT);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getAllByBookerId_whenCalledAgain_thenUserExistenceIsCached() {
+        bookingService.getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.ALL), 0, 10);
+        statistics.clear();
+
+        bookingService.getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.ALL), 0, 10);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getUserById_whenCalledAgain_thenUserIsCachedUntilDeleted() {
+        Long userId = userRepository.save(createUser("cached")).getId();
+        userService.getUserById(userId);
+        statistics.clear();
+
+        UserDto cachedUser = userService.getUserById(userId);
+        long statementsForCachedUser = statistics.getPrepareStatementCount();
+        userService.deleteUser(userId);
+
+        assertThat(cachedUser.getName()).isEqualTo("cached");
+        assertThat(statementsForCachedUser).isZero();
+        assertThatThrownBy(() -> userService.getUserById(userId)).isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> userService.checkUserExists(userId)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    private User createUser(String name) {
+        return User.builder().name(name).email(name + "@mail.ru").build();
+    }
+
+    private BookingDtoRequest createBookingDtoRequest(Item item, LocalDateTime start) {
+        return BookingDtoRequest.builder().itemId(item.getId()).start(start).end(start.plusDays(1)).build();
+    }
+
+    private Booking createBooking(Item item, User booker, LocalDateTime start, BookingStatus status) {
+        return Booking.builder()
+                .start(start)
+                .end(start.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .build();
+    }
+}
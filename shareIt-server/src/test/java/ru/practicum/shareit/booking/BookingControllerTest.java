@@ -8,12 +8,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingBatchDtoRequest;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingFilter;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.entity.BookingState;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingPeriodAlreadyTakenException;
 import ru.practicum.shareit.exception.IncorrectBookingDatesException;
+import ru.practicum.shareit.exception.IncorrectDateRangeException;
 import ru.practicum.shareit.exception.ItemNotAvailableForBookingException;
 import ru.practicum.shareit.exception.NotPossibleChangeBookingStatusException;
 import ru.practicum.shareit.exception.UnknownStateException;
@@ -26,6 +32,7 @@ import java.util.List;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -53,6 +60,30 @@ class BookingControllerTest {
         verify(bookingService, times(1)).createBooking(dtoRequest, 3L);
     }
 
+    @Test
+    void createBookings_whenSuccessful_thenReturnResultPerEntry() throws Exception {
+        BookingDtoRequest dtoRequest = BookingDtoRequest.builder().itemId(1L).build();
+        BookingBatchDtoRequest batchDtoRequest = BookingBatchDtoRequest.builder()
+                .bookings(List.of(dtoRequest, dtoRequest))
+                .build();
+        List<BookingBatchResultDto> results = List.of(
+                BookingBatchResultDto.builder().index(0)
+                        .booking(BookingDtoResponse.builder().status(BookingStatus.WAITING).build()).build(),
+                BookingBatchResultDto.builder().index(1).error("Item with id=1 is not available for booking").build());
+        when(bookingService.createBookings(anyList(), anyLong())).thenReturn(results);
+        mockMvc.perform(post("/bookings/batch")
+                        .header("X-Sharer-User-Id", 3)
+                        .content(mapper.writeValueAsString(batchDtoRequest))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].booking.status", is("WAITING")))
+                .andExpect(jsonPath("$[1].index", is(1)))
+                .andExpect(jsonPath("$[1].error", is("Item with id=1 is not available for booking")));
+        verify(bookingService, times(1)).createBookings(List.of(dtoRequest, dtoRequest), 3L);
+    }
+
     @Test
     void createBooking_whenDatesAreIncorrect_thenReturnIsBadRequest() throws Exception {
         LocalDateTime startDate = DateUtils.now();
@@ -92,6 +123,26 @@ class BookingControllerTest {
         verify(bookingService, times(1)).createBooking(dtoRequest, 3L);
     }
 
+    @Test
+    void createBooking_whenPeriodIsAlreadyBooked_thenReturnIsConflict() throws Exception {
+        LocalDateTime startDate = DateUtils.now();
+        LocalDateTime endDate = DateUtils.now().plusDays(1);
+        BookingDtoRequest dtoRequest = BookingDtoRequest.builder().build();
+        when(bookingService.createBooking(any(BookingDtoRequest.class), anyLong()))
+                .thenThrow(new BookingPeriodAlreadyTakenException(1L, startDate, endDate));
+        mockMvc.perform(post("/bookings")
+                        .header("X-Sharer-User-Id", 3)
+                        .content(mapper.writeValueAsString(dtoRequest))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.statusCode", is(409)))
+                .andExpect(jsonPath("$.error", is(String.format("Item with id=1 is already booked" +
+                        " for the period from %s to %s", startDate, endDate))));
+        verify(bookingService, times(1)).createBooking(dtoRequest, 3L);
+    }
+
     @Test
     void getBookingById_whenSuccessful_thenReturnIsOk() throws Exception {
         BookingDtoResponse dtoResponse = BookingDtoResponse.builder().id(5L).status(BookingStatus.WAITING).build();
@@ -111,7 +162,7 @@ class BookingControllerTest {
                 BookingDtoResponse.builder().build(),
                 BookingDtoResponse.builder().build()
         );
-        when(bookingService.getAllByBookerId(anyLong(), any(BookingState.class), anyInt(), anyInt()))
+        when(bookingService.getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
                 .thenReturn(allBookings);
         mockMvc.perform(get("/bookings")
                         .header("X-Sharer-User-Id", 7)
@@ -119,7 +170,7 @@ class BookingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()", is(2)));
         verify(bookingService, times(1))
-                .getAllByBookerId(7L, BookingState.ALL, 0, 100);
+                .getAllByBookerId(7L, BookingFilter.of(BookingState.ALL), 0, 100);
     }
 
     @Test
@@ -128,7 +179,7 @@ class BookingControllerTest {
                 BookingDtoResponse.builder().build(),
                 BookingDtoResponse.builder().build()
         );
-        when(bookingService.getAllByBookerId(anyLong(), any(BookingState.class), anyInt(), anyInt()))
+        when(bookingService.getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
                 .thenReturn(allBookings);
         mockMvc.perform(get("/bookings?from=10&size=5")
                         .header("X-Sharer-User-Id", 7)
@@ -136,12 +187,12 @@ class BookingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()", is(2)));
         verify(bookingService, times(1))
-                .getAllByBookerId(7L, BookingState.ALL, 10, 5);
+                .getAllByBookerId(7L, BookingFilter.of(BookingState.ALL), 10, 5);
     }
 
     @Test
     void getAllByBookerId_whenUnknownState_thenReturnIsBadRequest() throws Exception {
-        when(bookingService.getAllByBookerId(anyLong(), any(BookingState.class), anyInt(), anyInt()))
+        when(bookingService.getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
                 .thenThrow(new UnknownStateException(BookingState.UNSUPPORTED_STATUS));
         mockMvc.perform(get("/bookings?state=UNSUPPORTED_STATUS&from=10&size=5")
                         .header("X-Sharer-User-Id", 7)
@@ -150,7 +201,52 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.statusCode", is(400)))
                 .andExpect(jsonPath("$.error", is("Unknown state: UNSUPPORTED_STATUS")));
         verify(bookingService, times(1))
-                .getAllByBookerId(7L, BookingState.UNSUPPORTED_STATUS, 10, 5);
+                .getAllByBookerId(7L, BookingFilter.of(BookingState.UNSUPPORTED_STATUS), 10, 5);
+    }
+
+    @Test
+    void getAllByBookerId_whenPageIsFull_thenReturnNextCursorHeader() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0, 0);
+        List<BookingDtoResponse> allBookings = List.of(
+                BookingDtoResponse.builder().id(2L).start(start.plusDays(1)).build(),
+                BookingDtoResponse.builder().id(1L).start(start).build()
+        );
+        when(bookingService.getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
+                .thenReturn(allBookings);
+        mockMvc.perform(get("/bookings?from=0&size=2")
+                        .header("X-Sharer-User-Id", 7)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(header().string("X-Next-Cursor", new BookingCursor(start, 1L).encode()));
+    }
+
+    @Test
+    void getAllByBookerId_whenCursorIsPresent_thenReturnIsOk() throws Exception {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2030, 1, 1, 12, 0, 0), 15L);
+        List<BookingDtoResponse> allBookings = List.of(BookingDtoResponse.builder().build());
+        when(bookingService.getAllByBookerIdAfterCursor(anyLong(), any(BookingFilter.class),
+                any(BookingCursor.class), anyInt())).thenReturn(allBookings);
+        mockMvc.perform(get("/bookings?size=5&cursor=" + cursor.encode())
+                        .header("X-Sharer-User-Id", 7)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        verify(bookingService, times(1))
+                .getAllByBookerIdAfterCursor(7L, BookingFilter.of(BookingState.ALL), cursor, 5);
+        verify(bookingService, never()).getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt());
+    }
+
+    @Test
+    void getAllByItemOwnerId_whenCursorIsIncorrect_thenReturnIsBadRequest() throws Exception {
+        mockMvc.perform(get("/bookings/owner?cursor=abc")
+                        .header("X-Sharer-User-Id", 7)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.statusCode", is(400)))
+                .andExpect(jsonPath("$.error", is("Cursor abc is incorrect")));
+        verifyNoInteractions(bookingService);
     }
 
     @Test
@@ -159,7 +255,7 @@ class BookingControllerTest {
                 BookingDtoResponse.builder().build(),
                 BookingDtoResponse.builder().build()
         );
-        when(bookingService.getAllByItemOwnerId(anyLong(), any(BookingState.class), anyInt(), anyInt()))
+        when(bookingService.getAllByItemOwnerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
                 .thenReturn(allBookings);
         mockMvc.perform(get("/bookings/owner")
                         .header("X-Sharer-User-Id", 7)
@@ -167,7 +263,7 @@ class BookingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()", is(2)));
         verify(bookingService, times(1))
-                .getAllByItemOwnerId(7L, BookingState.ALL, 0, 100);
+                .getAllByItemOwnerId(7L, BookingFilter.of(BookingState.ALL), 0, 100);
     }
 
     @Test
@@ -176,7 +272,7 @@ class BookingControllerTest {
                 BookingDtoResponse.builder().build(),
                 BookingDtoResponse.builder().build()
         );
-        when(bookingService.getAllByItemOwnerId(anyLong(), any(BookingState.class), anyInt(), anyInt()))
+        when(bookingService.getAllByItemOwnerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
                 .thenReturn(allBookings);
         mockMvc.perform(get("/bookings/owner?from=10&size=5")
                         .header("X-Sharer-User-Id", 7)
@@ -184,7 +280,38 @@ class BookingControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()", is(2)));
         verify(bookingService, times(1))
-                .getAllByItemOwnerId(7L, BookingState.ALL, 10, 5);
+                .getAllByItemOwnerId(7L, BookingFilter.of(BookingState.ALL), 10, 5);
+    }
+
+    @Test
+    void getAllByItemOwnerId_whenItemAndDateRangeParamsArePresent_thenPassThemInFilter() throws Exception {
+        LocalDateTime rangeStart = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime rangeEnd = LocalDateTime.of(2030, 1, 2, 10, 0);
+        when(bookingService.getAllByItemOwnerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
+                .thenReturn(List.of());
+        mockMvc.perform(get("/bookings/owner?state=WAITING&itemId=3&rangeStart=2030-01-01T10:00:00" +
+                        "&rangeEnd=2030-01-02T10:00:00")
+                        .header("X-Sharer-User-Id", 7)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+        verify(bookingService, times(1)).getAllByItemOwnerId(7L, BookingFilter.builder()
+                .state(BookingState.WAITING)
+                .itemId(3L)
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeEnd)
+                .build(), 0, 100);
+    }
+
+    @Test
+    void getAllByBookerId_whenDateRangeIsIncorrect_thenReturnIsBadRequest() throws Exception {
+        LocalDateTime rangeStart = LocalDateTime.of(2030, 1, 2, 10, 0);
+        LocalDateTime rangeEnd = LocalDateTime.of(2030, 1, 1, 10, 0);
+        when(bookingService.getAllByBookerId(anyLong(), any(BookingFilter.class), anyInt(), anyInt()))
+                .thenThrow(new IncorrectDateRangeException(rangeStart, rangeEnd));
+        mockMvc.perform(get("/bookings?rangeStart=2030-01-02T10:00:00&rangeEnd=2030-01-01T10:00:00")
+                        .header("X-Sharer-User-Id", 7)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
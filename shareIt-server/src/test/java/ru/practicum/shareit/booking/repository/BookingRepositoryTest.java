@@ -6,13 +6,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingState;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.util.DateUtils;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -24,7 +30,7 @@ class BookingRepositoryTest {
     private final TestEntityManager entityManager;
 
     @Test
-    void findAllPastUserBookings() {
+    void findBookings_whenBookerRequestsPastBookings_thenReturnThemNewestFirst() {
         User booker = createUser("1");
         User itemOwner = createUser("2");
         entityManager.persist(booker);
@@ -42,15 +48,19 @@ class BookingRepositoryTest {
         entityManager.persist(currentBooking);
         entityManager.persist(pastBooking2);
 
-        List<Booking> pastBookings = bookingRepository
-                .findAllPastUserBookings(booker.getId(), DateUtils.now(), PageRequest.of(0, 10));
+        List<BookingView> pastBookings = bookingRepository.findBookings(BookingRole.BOOKER, booker.getId(),
+                BookingFilter.of(BookingState.PAST), DateUtils.now(), PageRequest.of(0, 10));
 
         assertThat(pastBookings.size()).isEqualTo(2);
-        assertThat(pastBookings).containsExactly(pastBooking1, pastBooking2);
+        assertThat(pastBookings).extracting(BookingView::getId)
+                .containsExactly(pastBooking2.getId(), pastBooking1.getId());
+        assertThat(pastBookings.get(1).getBookerEmail()).isEqualTo(booker.getEmail());
+        assertThat(pastBookings.get(1).getItemName()).isEqualTo(item1.getName());
+        assertThat(pastBookings.get(0).getItemRequestId()).isNull();
     }
 
     @Test
-    void findAllCurrentUserBookings() {
+    void findBookings_whenBookerRequestsCurrentBookings_thenReturnThemNewestFirst() {
         User booker = createUser("1");
         User itemOwner = createUser("2");
         entityManager.persist(booker);
@@ -68,11 +78,107 @@ class BookingRepositoryTest {
         entityManager.persist(currentBooking1);
         entityManager.persist(currentBooking2);
 
-        List<Booking> pastBookings = bookingRepository
-                .findAllCurrentUserBookings(booker.getId(), DateUtils.now(), PageRequest.of(0, 10));
+        List<BookingView> currentBookings = bookingRepository.findBookings(BookingRole.BOOKER, booker.getId(),
+                BookingFilter.of(BookingState.CURRENT), DateUtils.now(), PageRequest.of(0, 10));
 
-        assertThat(pastBookings.size()).isEqualTo(2);
-        assertThat(pastBookings).containsExactly(currentBooking1, currentBooking2);
+        assertThat(currentBookings.size()).isEqualTo(2);
+        assertThat(currentBookings).extracting(BookingView::getId)
+                .containsExactly(currentBooking2.getId(), currentBooking1.getId());
+    }
+
+    @Test
+    void findBookings_whenItemOwnerFiltersByItemAndDateRange_thenReturnOnlyOverlappingBookingsOfItem() {
+        User booker = createUser("1");
+        User itemOwner = createUser("2");
+        entityManager.persist(booker);
+        entityManager.persist(itemOwner);
+        Item item1 = createItem("1", itemOwner);
+        Item item2 = createItem("2", itemOwner);
+        entityManager.persist(item1);
+        entityManager.persist(item2);
+        LocalDateTime now = DateUtils.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking beforeRange = createBooking(item1, booker, now.minusDays(5), BookingStatus.APPROVED);
+        Booking overlappingRangeStart = createBooking(item1, booker, now.minusHours(12), BookingStatus.APPROVED);
+        Booking insideRange = createBooking(item1, booker, now.plusDays(1), BookingStatus.WAITING);
+        Booking otherItem = createBooking(item2, booker, now.plusDays(1), BookingStatus.WAITING);
+        Booking afterRange = createBooking(item1, booker, now.plusDays(3), BookingStatus.WAITING);
+        List.of(beforeRange, overlappingRangeStart, insideRange, otherItem, afterRange)
+                .forEach(entityManager::persist);
+        BookingFilter filter = BookingFilter.builder()
+                .itemId(item1.getId())
+                .rangeStart(now)
+                .rangeEnd(now.plusDays(3))
+                .build();
+
+        List<BookingView> bookings = bookingRepository.findBookings(BookingRole.ITEM_OWNER, itemOwner.getId(),
+                filter, now, PageRequest.of(0, 10));
+        List<BookingView> waitingBookings = bookingRepository.findBookingsAfterCursor(BookingRole.ITEM_OWNER,
+                itemOwner.getId(), BookingFilter.builder().state(BookingState.WAITING).itemId(item1.getId()).build(),
+                now, new BookingCursor(afterRange.getStart(), afterRange.getId()), 10);
+
+        assertThat(bookings).extracting(BookingView::getId)
+                .containsExactly(insideRange.getId(), overlappingRangeStart.getId());
+        assertThat(waitingBookings).extracting(BookingView::getId)
+                .containsExactly(insideRange.getId());
+    }
+
+    @Test
+    void existsByItemIdAndStatusAndStartBeforeAndEndAfter() {
+        User booker = createUser("1");
+        User itemOwner = createUser("2");
+        entityManager.persist(booker);
+        entityManager.persist(itemOwner);
+        Item item = createItem("1", itemOwner);
+        entityManager.persist(item);
+        LocalDateTime start = DateUtils.now().truncatedTo(ChronoUnit.SECONDS).plusDays(1);
+        LocalDateTime end = start.plusDays(2);
+        entityManager.persist(Booking.builder().start(start).end(end).item(item).booker(booker)
+                .status(BookingStatus.APPROVED).build());
+        entityManager.persist(Booking.builder().start(end).end(end.plusDays(2)).item(item).booker(booker)
+                .status(BookingStatus.WAITING).build());
+
+        boolean overlapping = bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.APPROVED, end.plusDays(1), start.plusHours(1));
+        boolean adjacent = bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.APPROVED, end.plusDays(1), end);
+
+        assertThat(overlapping).isTrue();
+        assertThat(adjacent).isFalse();
+    }
+
+    @Test
+    void findLastAndNextApprovedBookings() {
+        User booker = createUser("1");
+        User itemOwner = createUser("2");
+        entityManager.persist(booker);
+        entityManager.persist(itemOwner);
+        Item item1 = createItem("1", itemOwner);
+        Item item2 = createItem("2", itemOwner);
+        entityManager.persist(item1);
+        entityManager.persist(item2);
+        LocalDateTime now = DateUtils.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking oldBooking = createBooking(item1, booker, now.minusDays(10), BookingStatus.APPROVED);
+        Booking lastBooking = createBooking(item1, booker, now.minusDays(5), BookingStatus.APPROVED);
+        Booking rejectedBooking = createBooking(item1, booker, now.minusDays(1), BookingStatus.REJECTED);
+        Booking nextBooking = createBooking(item1, booker, now.plusDays(1), BookingStatus.APPROVED);
+        Booking laterBooking = createBooking(item1, booker, now.plusDays(5), BookingStatus.APPROVED);
+        Booking onlyNextBooking = createBooking(item2, booker, now.plusDays(3), BookingStatus.APPROVED);
+        List.of(oldBooking, lastBooking, rejectedBooking, nextBooking, laterBooking, onlyNextBooking)
+                .forEach(entityManager::persist);
+
+        List<BookingForItemView> bookings = bookingRepository
+                .findLastAndNextApprovedBookings(List.of(item1.getId(), item2.getId()), now);
+
+        assertThat(bookings).extracting(BookingForItemView::getId)
+                .containsExactlyInAnyOrder(lastBooking.getId(), nextBooking.getId(), onlyNextBooking.getId());
+        BookingForItemView last = bookings.stream()
+                .filter(booking -> booking.getId().equals(lastBooking.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(last.getItemId()).isEqualTo(item1.getId());
+        assertThat(last.getBookerId()).isEqualTo(booker.getId());
+        assertThat(last.getStart()).isEqualTo(lastBooking.getStart());
+        assertThat(last.getEnd()).isEqualTo(lastBooking.getEnd());
     }
 
     User createUser(String userPostfix) {
@@ -100,6 +206,16 @@ class BookingRepositoryTest {
                 .build();
     }
 
+    Booking createBooking(Item item, User booker, LocalDateTime start, BookingStatus status) {
+        return Booking.builder()
+                .start(start)
+                .end(start.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .build();
+    }
+
     Booking createCurrentBooking(Item item, User booker, BookingStatus status) {
         return Booking.builder()
                 .start(DateUtils.now().minusSeconds(1))
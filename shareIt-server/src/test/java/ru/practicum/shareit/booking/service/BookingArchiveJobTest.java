@@ -0,0 +1,132 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingState;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"shareit.booking-archive.archive-after=30d", "shareit.booking-archive.batch-size=2"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingArchiveJobTest {
+    private final BookingArchiveJob bookingArchiveJob;
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void deleteData() {
+        bookingRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void archiveCompletedBookings_whenBookingsEndedLongAgo_thenOnlyTheyAreArchivedAndStillListed() {
+        User owner = userRepository.save(User.builder().name("Owner").email("archive-owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("archive-booker@mail.ru").build());
+        Item item = itemRepository.save(Item.builder().name("Item").description("Description").available(true)
+                .owner(owner).build());
+        LocalDateTime now = DateUtils.now().truncatedTo(ChronoUnit.MICROS);
+        Booking oldApproved = createBooking(item, booker, now.minusDays(100), BookingStatus.APPROVED);
+        Booking oldRejected = createBooking(item, booker, now.minusDays(90), BookingStatus.REJECTED);
+        Booking oldCanceled = createBooking(item, booker, now.minusDays(80), BookingStatus.CANCELED);
+        Booking oldWaiting = createBooking(item, booker, now.minusDays(70), BookingStatus.WAITING);
+        Booking recentPast = createBooking(item, booker, now.minusDays(3), BookingStatus.APPROVED);
+        Booking current = createBooking(item, booker, now.minusHours(12), BookingStatus.APPROVED);
+        Booking future = createBooking(item, booker, now.plusDays(3), BookingStatus.WAITING);
+        bookingRepository.saveAll(List.of(oldApproved, oldRejected, oldCanceled, oldWaiting, recentPast, current,
+                future));
+
+        int archived = bookingArchiveJob.archiveCompletedBookings();
+
+        assertThat(archived).isEqualTo(3);
+        assertThat(bookingRepository.findAll().stream().filter(Booking::isArchived).map(Booking::getId))
+                .containsExactlyInAnyOrder(oldApproved.getId(), oldRejected.getId(), oldCanceled.getId());
+        assertThat(bookingArchiveJob.archiveCompletedBookings()).isZero();
+        assertThat(ids(bookingService.getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.ALL), 0, 10)))
+                .containsExactly(future.getId(), current.getId(), recentPast.getId(), oldWaiting.getId(),
+                        oldCanceled.getId(), oldRejected.getId(), oldApproved.getId());
+        assertThat(ids(bookingService.getAllByItemOwnerId(owner.getId(), BookingFilter.of(BookingState.PAST), 0, 10)))
+                .containsExactly(recentPast.getId(), oldWaiting.getId(), oldCanceled.getId(), oldRejected.getId(),
+                        oldApproved.getId());
+        assertThat(ids(bookingService.getAllByBookerIdAfterCursor(booker.getId(), BookingFilter.of(BookingState.PAST),
+                new BookingCursor(oldWaiting.getStart(), oldWaiting.getId()), 10)))
+                .containsExactly(oldCanceled.getId(), oldRejected.getId(), oldApproved.getId());
+        assertThat(ids(bookingService.getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.REJECTED), 0, 10)))
+                .containsExactly(oldRejected.getId());
+        assertThat(ids(bookingService.getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.CURRENT), 0, 10)))
+                .containsExactly(current.getId());
+        assertThat(ids(bookingService.getAllByItemOwnerId(owner.getId(), BookingFilter.of(BookingState.FUTURE), 0, 10)))
+                .containsExactly(future.getId());
+    }
+
+    @Test
+    void archiveCompletedBookings_whenDatabaseIsPartitioned_thenCreatePartitionsFromEarliestArchivedStart() {
+        User owner = userRepository.save(User.builder().name("Owner").email("partition-owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("partition-booker@mail.ru").build());
+        Item item = itemRepository.save(Item.builder().name("Item").description("Description").available(true)
+                .owner(owner).build());
+        LocalDateTime now = DateUtils.now();
+        bookingRepository.saveAll(List.of(createBooking(item, booker, now.minusYears(3), BookingStatus.APPROVED),
+                createBooking(item, booker, now.minusDays(100), BookingStatus.APPROVED)));
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+        BookingArchiveJob partitionedJob = new BookingArchiveJob(bookingRepository, transactionTemplate, jdbcTemplate,
+                Duration.ofDays(30), 2);
+
+        assertThat(partitionedJob.archiveCompletedBookings()).isEqualTo(2);
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(statements.capture());
+        assertThat(statements.getAllValues()).containsExactlyElementsOf(
+                IntStream.rangeClosed(now.minusYears(3).getYear(), now.minusDays(30).getYear())
+                        .mapToObj(year -> String.format("CREATE TABLE IF NOT EXISTS bookings_archive_y%d PARTITION OF" +
+                                " bookings_archive FOR VALUES FROM ('%d-01-01') TO ('%d-01-01')", year, year, year + 1))
+                        .collect(Collectors.toList()));
+    }
+
+    private List<Long> ids(List<BookingDtoResponse> bookings) {
+        return bookings.stream().map(BookingDtoResponse::getId).collect(Collectors.toList());
+    }
+
+    private Booking createBooking(Item item, User booker, LocalDateTime start, BookingStatus status) {
+        return Booking.builder()
+                .start(start)
+                .end(start.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.BookingPeriodAlreadyTakenException;
+import ru.practicum.shareit.exception.NotPossibleChangeBookingStatusException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "shareit.optimistic-lock.max-attempts=10")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingConcurrencyTest {
+    private static final int THREAD_COUNT = 8;
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private ExecutorService executor;
+    private User owner;
+    private User booker;
+    private Item item;
+
+    @BeforeEach
+    void createData() {
+        executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        owner = userRepository.save(User.builder().name("Owner").email("concurrency-owner@mail.ru").build());
+        booker = userRepository.save(User.builder().name("Booker").email("concurrency-booker@mail.ru").build());
+        item = itemRepository.save(Item.builder().name("Item").description("Description").available(true)
+                .owner(owner).build());
+    }
+
+    @AfterEach
+    void deleteData() {
+        executor.shutdownNow();
+        bookingRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void updateBooking_whenOverlappingBookingsAreApprovedInParallel_thenOnlyOneIsApproved() throws Exception {
+        LocalDateTime start = DateUtils.now().plusDays(1);
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            bookings.add(createBooking(start.plusHours(i), start.plusDays(1).plusHours(i)));
+        }
+        bookingRepository.saveAll(bookings);
+
+        List<Throwable> failures = runInParallel(i -> () ->
+                bookingService.updateBooking(owner.getId(), bookings.get(i).getId(), true));
+
+        assertThat(failures).hasSize(THREAD_COUNT - 1)
+                .allMatch(e -> e instanceof BookingPeriodAlreadyTakenException
+                        || e instanceof OptimisticLockingFailureException);
+        assertThat(bookingRepository.findAll()).filteredOn(b -> b.getStatus() == BookingStatus.APPROVED).hasSize(1);
+    }
+
+    @Test
+    void updateBooking_whenBookingsAreApprovedOneAfterAnother_thenItemVersionIsIncrementedEachTime() {
+        LocalDateTime start = DateUtils.now().plusDays(1);
+        Booking first = createBooking(start, start.plusDays(1));
+        Booking second = createBooking(start.plusDays(2), start.plusDays(3));
+        bookingRepository.saveAll(List.of(first, second));
+        Long itemVersion = itemRepository.findById(item.getId()).orElseThrow().getVersion();
+
+        bookingService.updateBooking(owner.getId(), first.getId(), true);
+        bookingService.updateBooking(owner.getId(), second.getId(), true);
+
+        assertThat(itemRepository.findById(item.getId()).orElseThrow().getVersion()).isEqualTo(itemVersion + 2);
+    }
+
+    @Test
+    void updateBooking_whenSameBookingIsApprovedAndRejectedInParallel_thenOnlyOneTransitionWins() throws Exception {
+        Booking booking = bookingRepository.save(createBooking(DateUtils.now().plusDays(1),
+                DateUtils.now().plusDays(2)));
+
+        List<Throwable> failures = runInParallel(i -> () ->
+                bookingService.updateBooking(owner.getId(), booking.getId(), i % 2 == 0));
+
+        assertThat(failures).hasSize(THREAD_COUNT - 1)
+                .allMatch(e -> e instanceof NotPossibleChangeBookingStatusException
+                        || e instanceof BookingPeriodAlreadyTakenException
+                        || e instanceof OptimisticLockingFailureException);
+        Booking updated = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(updated.getStatus()).isIn(BookingStatus.APPROVED, BookingStatus.REJECTED);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+
+    private List<Throwable> runInParallel(Function<Integer, Callable<?>> tasks) throws Exception {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Callable<?> task = tasks.apply(i);
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                return task.call();
+            }));
+        }
+        startSignal.countDown();
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        return failures;
+    }
+
+    private Booking createBooking(LocalDateTime start, LocalDateTime end) {
+        return Booking.builder()
+                .start(start)
+                .end(end)
+                .item(item)
+                .booker(booker)
+                .status(BookingStatus.WAITING)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package ru.practicum.shareit.booking.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.entity.Booking;
+import ru.practicum.shareit.booking.entity.BookingState;
+import ru.practicum.shareit.booking.entity.BookingStatus;
+import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.exception.NotPossibleChangeBookingStatusException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"shareit.booking-expiry.approval-window=2d", "shareit.booking-expiry.batch-size=2"})
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class BookingExpiryJobTest {
+    private final BookingExpiryJob bookingExpiryJob;
+    private final BookingService bookingService;
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void deleteData() {
+        bookingRepository.deleteAllInBatch();
+        itemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void expireStaleBookings_whenWaitingBookingsStartedOrOutlivedApprovalWindow_thenOnlyTheyAreExpired() {
+        User owner = userRepository.save(User.builder().name("Owner").email("expiry-owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("expiry-booker@mail.ru").build());
+        Item item = itemRepository.save(Item.builder().name("Item").description("Description").available(true)
+                .owner(owner).build());
+        LocalDateTime now = DateUtils.now().truncatedTo(ChronoUnit.MICROS);
+        Booking startedWaiting = createBooking(item, booker, now.minusHours(1), now.minusDays(1),
+                BookingStatus.WAITING);
+        Booking startedApproved = createBooking(item, booker, now.minusHours(2), now.minusDays(1),
+                BookingStatus.APPROVED);
+        Booking staleWaiting = createBooking(item, booker, now.plusDays(10), now.minusDays(3),
+                BookingStatus.WAITING);
+        Booking staleRejected = createBooking(item, booker, now.plusDays(11), now.minusDays(3),
+                BookingStatus.REJECTED);
+        Booking freshWaiting = createBooking(item, booker, now.plusDays(12), now.minusDays(1),
+                BookingStatus.WAITING);
+        Booking alsoStaleWaiting = createBooking(item, booker, now.plusDays(13), now.minusDays(5),
+                BookingStatus.WAITING);
+        bookingRepository.saveAll(List.of(startedWaiting, startedApproved, staleWaiting, staleRejected,
+                freshWaiting, alsoStaleWaiting));
+        double expiredBefore = meterRegistry.counter("shareit.booking.expiry.rows").count();
+        double batchesBefore = meterRegistry.counter("shareit.booking.expiry.batches").count();
+
+        int expired = bookingExpiryJob.expireStaleBookings();
+
+        assertThat(expired).isEqualTo(3);
+        assertThat(meterRegistry.counter("shareit.booking.expiry.rows").count() - expiredBefore).isEqualTo(3);
+        assertThat(meterRegistry.counter("shareit.booking.expiry.batches").count() - batchesBefore).isEqualTo(2);
+        assertThat(bookingExpiryJob.expireStaleBookings()).isZero();
+        assertThat(ids(bookingService.getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.EXPIRED), 0, 10)))
+                .containsExactly(alsoStaleWaiting.getId(), staleWaiting.getId(), startedWaiting.getId());
+        assertThat(ids(bookingService.getAllByItemOwnerId(owner.getId(),
+                BookingFilter.of(BookingState.WAITING), 0, 10)))
+                .containsExactly(freshWaiting.getId());
+        assertThat(ids(bookingService.getAllByItemOwnerId(owner.getId(),
+                BookingFilter.of(BookingState.REJECTED), 0, 10)))
+                .containsExactly(staleRejected.getId());
+        assertThatThrownBy(() -> bookingService.updateBooking(owner.getId(), staleWaiting.getId(), true))
+                .isInstanceOf(NotPossibleChangeBookingStatusException.class);
+    }
+
+    @Test
+    void expireStaleBookings_whenBookingIsApprovedFromStateLoadedBeforeExpiry_thenApprovalFailsOnVersion() {
+        User owner = userRepository.save(User.builder().name("Owner").email("interleave-owner@mail.ru").build());
+        User booker = userRepository.save(User.builder().name("Booker").email("interleave-booker@mail.ru").build());
+        Item item = itemRepository.save(Item.builder().name("Item").description("Description").available(true)
+                .owner(owner).build());
+        LocalDateTime now = DateUtils.now();
+        Booking booking = bookingRepository.save(createBooking(item, booker, now.plusDays(10), now.minusDays(3),
+                BookingStatus.WAITING));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Booking loaded = bookingRepository.findById(booking.getId()).orElseThrow();
+            assertThat(CompletableFuture.supplyAsync(bookingExpiryJob::expireStaleBookings).join()).isEqualTo(1);
+            loaded.setStatus(BookingStatus.APPROVED);
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        Booking stored = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(BookingStatus.EXPIRED);
+        assertThat(stored.getVersion()).isEqualTo(booking.getVersion() + 1);
+    }
+
+    @Test
+    void createBooking_whenCreatedDateIsAbsent_thenItIsSetOnInsert() {
+        User owner = userRepository.save(User.builder().name("Owner").email("created-owner@mail.ru").build());
+        Item item = itemRepository.save(Item.builder().name("Item").description("Description").available(true)
+                .owner(owner).build());
+        LocalDateTime before = DateUtils.now();
+        Booking booking = bookingRepository.save(Booking.builder()
+                .start(before.plusDays(1))
+                .end(before.plusDays(2))
+                .item(item)
+                .booker(owner)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        assertThat(bookingRepository.findById(booking.getId()).orElseThrow().getCreated())
+                .isAfterOrEqualTo(before.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private List<Long> ids(List<BookingDtoResponse> bookings) {
+        return bookings.stream().map(BookingDtoResponse::getId).collect(Collectors.toList());
+    }
+
+    private Booking createBooking(Item item, User booker, LocalDateTime start, LocalDateTime created,
+                                  BookingStatus status) {
+        return Booking.builder()
+                .start(start)
+                .end(start.plusDays(1))
+                .item(item)
+                .booker(booker)
+                .status(status)
+                .created(created)
+                .build();
+    }
+}
@@ -5,7 +5,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingFilter;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.entity.BookingState;
 import ru.practicum.shareit.booking.entity.BookingStatus;
@@ -13,10 +15,14 @@ import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.entity.ItemRequest;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.util.DateUtils;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +35,7 @@ class BookingServiceImplIntegrationTest {
     private final BookingMapper bookingMapper;
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
+    private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
 
     @Test
@@ -50,17 +57,17 @@ class BookingServiceImplIntegrationTest {
         bookingRepository.saveAll(List.of(pastBooking, currentBooking, futureBooking, rejectedBooking));
 
         List<BookingDtoResponse> all = bookingService
-                .getAllByBookerId(bookerId, BookingState.ALL, 0, 10);
+                .getAllByBookerId(bookerId, BookingFilter.of(BookingState.ALL), 0, 10);
         List<BookingDtoResponse> past = bookingService
-                .getAllByBookerId(bookerId, BookingState.PAST, 0, 10);
+                .getAllByBookerId(bookerId, BookingFilter.of(BookingState.PAST), 0, 10);
         List<BookingDtoResponse> current = bookingService
-                .getAllByBookerId(bookerId, BookingState.CURRENT, 0, 10);
+                .getAllByBookerId(bookerId, BookingFilter.of(BookingState.CURRENT), 0, 10);
         List<BookingDtoResponse> future = bookingService
-                .getAllByBookerId(bookerId, BookingState.FUTURE, 0, 10);
+                .getAllByBookerId(bookerId, BookingFilter.of(BookingState.FUTURE), 0, 10);
         List<BookingDtoResponse> waiting = bookingService
-                .getAllByBookerId(bookerId, BookingState.WAITING, 0, 10);
+                .getAllByBookerId(bookerId, BookingFilter.of(BookingState.WAITING), 0, 10);
         List<BookingDtoResponse> rejected = bookingService
-                .getAllByBookerId(bookerId, BookingState.REJECTED, 0, 10);
+                .getAllByBookerId(bookerId, BookingFilter.of(BookingState.REJECTED), 0, 10);
 
         assertThat(all.size()).isEqualTo(4);
         assertThat(past.size()).isEqualTo(1);
@@ -95,17 +102,17 @@ class BookingServiceImplIntegrationTest {
         bookingRepository.saveAll(List.of(pastBooking, currentBooking, futureBooking, rejectedBooking));
 
         List<BookingDtoResponse> all = bookingService
-                .getAllByItemOwnerId(ownerId, BookingState.ALL, 0, 10);
+                .getAllByItemOwnerId(ownerId, BookingFilter.of(BookingState.ALL), 0, 10);
         List<BookingDtoResponse> past = bookingService
-                .getAllByItemOwnerId(ownerId, BookingState.PAST, 0, 10);
+                .getAllByItemOwnerId(ownerId, BookingFilter.of(BookingState.PAST), 0, 10);
         List<BookingDtoResponse> current = bookingService
-                .getAllByItemOwnerId(ownerId, BookingState.CURRENT, 0, 10);
+                .getAllByItemOwnerId(ownerId, BookingFilter.of(BookingState.CURRENT), 0, 10);
         List<BookingDtoResponse> future = bookingService
-                .getAllByItemOwnerId(ownerId, BookingState.FUTURE, 0, 10);
+                .getAllByItemOwnerId(ownerId, BookingFilter.of(BookingState.FUTURE), 0, 10);
         List<BookingDtoResponse> waiting = bookingService
-                .getAllByItemOwnerId(ownerId, BookingState.WAITING, 0, 10);
+                .getAllByItemOwnerId(ownerId, BookingFilter.of(BookingState.WAITING), 0, 10);
         List<BookingDtoResponse> rejected = bookingService
-                .getAllByItemOwnerId(ownerId, BookingState.REJECTED, 0, 10);
+                .getAllByItemOwnerId(ownerId, BookingFilter.of(BookingState.REJECTED), 0, 10);
 
         assertThat(all.size()).isEqualTo(4);
         assertThat(past.size()).isEqualTo(1);
@@ -121,6 +128,96 @@ class BookingServiceImplIntegrationTest {
         assertThat(rejected).contains(bookingMapper.toBookingDtoResponse(rejectedBooking));
     }
 
+    @Test
+    void getAllByItemOwnerIdAfterCursorTest() {
+        User itemOwner = createUser("1");
+        User booker = createUser("2");
+        userRepository.saveAll(List.of(itemOwner, booker));
+        Long ownerId = itemOwner.getId();
+        Item item1 = createItem("1", itemOwner);
+        Item item2 = createItem("2", itemOwner);
+        itemRepository.saveAll(List.of(item1, item2));
+        LocalDateTime now = DateUtils.now().truncatedTo(ChronoUnit.SECONDS);
+        Booking futureBooking1 = createFutureBooking(item1, booker);
+        Booking futureBooking2 = createFutureBooking(item2, booker);
+        Booking currentBooking = createCurrentBooking(item1, booker);
+        Booking pastBooking = createPastBooking(item2, booker);
+        futureBooking1.setStart(now.plusDays(1));
+        futureBooking2.setStart(now.plusDays(1));
+        currentBooking.setStart(now.minusDays(1));
+        pastBooking.setStart(now.minusDays(2));
+        bookingRepository.saveAll(List.of(futureBooking1, futureBooking2, currentBooking, pastBooking));
+
+        List<BookingDtoResponse> firstPage = bookingService
+                .getAllByItemOwnerId(ownerId, BookingFilter.of(BookingState.ALL), 0, 2);
+        List<BookingDtoResponse> secondPage = bookingService.getAllByItemOwnerIdAfterCursor(ownerId,
+                BookingFilter.of(BookingState.ALL), BookingCursor.of(firstPage.get(1)), 2);
+        List<BookingDtoResponse> lastPage = bookingService.getAllByItemOwnerIdAfterCursor(ownerId,
+                BookingFilter.of(BookingState.ALL), BookingCursor.of(secondPage.get(1)), 2);
+        List<BookingDtoResponse> futureAfterFirst = bookingService.getAllByItemOwnerIdAfterCursor(ownerId,
+                BookingFilter.of(BookingState.FUTURE), BookingCursor.of(firstPage.get(0)), 10);
+
+        assertThat(firstPage).containsExactly(bookingMapper.toBookingDtoResponse(futureBooking2),
+                bookingMapper.toBookingDtoResponse(futureBooking1));
+        assertThat(secondPage).containsExactly(bookingMapper.toBookingDtoResponse(currentBooking),
+                bookingMapper.toBookingDtoResponse(pastBooking));
+        assertThat(lastPage).isEmpty();
+        assertThat(futureAfterFirst).containsExactly(bookingMapper.toBookingDtoResponse(futureBooking1));
+    }
+
+    @Test
+    void getAllByItemOwnerId_whenFilteredByItemAndDateRange_thenReturnMatchingBookings() {
+        User itemOwner = createUser("1");
+        User booker = createUser("2");
+        userRepository.saveAll(List.of(itemOwner, booker));
+        Long ownerId = itemOwner.getId();
+        Item item1 = createItem("1", itemOwner);
+        Item item2 = createItem("2", itemOwner);
+        itemRepository.saveAll(List.of(item1, item2));
+        Booking pastBooking = createPastBooking(item1, booker);
+        Booking currentBooking = createCurrentBooking(item1, booker);
+        Booking futureBooking = createFutureBooking(item1, booker);
+        Booking otherItemBooking = createCurrentBooking(item2, booker);
+        bookingRepository.saveAll(List.of(pastBooking, currentBooking, futureBooking, otherItemBooking));
+        LocalDateTime now = DateUtils.now();
+
+        List<BookingDtoResponse> itemBookings = bookingService.getAllByItemOwnerId(ownerId,
+                BookingFilter.builder().itemId(item1.getId()).build(), 0, 10);
+        List<BookingDtoResponse> nextHours = bookingService.getAllByItemOwnerId(ownerId,
+                BookingFilter.builder().itemId(item1.getId()).rangeStart(now).rangeEnd(now.plusHours(1)).build(),
+                0, 10);
+        List<BookingDtoResponse> waitingFromTomorrow = bookingService.getAllByBookerId(booker.getId(),
+                BookingFilter.builder().state(BookingState.WAITING).rangeStart(now.plusDays(1)).build(), 0, 10);
+
+        assertThat(itemBookings).containsExactly(bookingMapper.toBookingDtoResponse(futureBooking),
+                bookingMapper.toBookingDtoResponse(currentBooking), bookingMapper.toBookingDtoResponse(pastBooking));
+        assertThat(nextHours).containsExactly(bookingMapper.toBookingDtoResponse(currentBooking));
+        assertThat(waitingFromTomorrow).containsExactly(bookingMapper.toBookingDtoResponse(futureBooking));
+    }
+
+    @Test
+    void getBookingById_whenItemWasRequested_thenMatchListEntryIncludingRequestId() {
+        User itemOwner = createUser("1");
+        User booker = createUser("2");
+        userRepository.saveAll(List.of(itemOwner, booker));
+        ItemRequest itemRequest = itemRequestRepository.save(ItemRequest.builder()
+                .description("Need a drill")
+                .requester(booker)
+                .created(DateUtils.now())
+                .build());
+        Item item = createItem("1", itemOwner);
+        item.setRequest(itemRequest);
+        itemRepository.save(item);
+        Booking booking = bookingRepository.save(createFutureBooking(item, booker));
+
+        BookingDtoResponse single = bookingService.getBookingById(booking.getId(), booker.getId());
+        List<BookingDtoResponse> list = bookingService
+                .getAllByBookerId(booker.getId(), BookingFilter.of(BookingState.ALL), 0, 10);
+
+        assertThat(single.getItem().getRequestId()).isEqualTo(itemRequest.getId());
+        assertThat(list).containsExactly(single);
+    }
+
     User createUser(String userPostfix) {
         return User.builder()
                 .name(String.format("Name%s", userPostfix))
@@ -138,8 +235,8 @@ class BookingServiceImplIntegrationTest {
 
     Booking createPastBooking(Item item, User booker) {
         return Booking.builder()
-                .start(DateUtils.now().minusDays(2))
-                .end(DateUtils.now().minusDays(1))
+                .start(DateUtils.now().minusDays(2).truncatedTo(ChronoUnit.MICROS))
+                .end(DateUtils.now().minusDays(1).truncatedTo(ChronoUnit.MICROS))
                 .item(item)
                 .booker(booker)
                 .status(BookingStatus.CANCELED)
@@ -149,8 +246,8 @@ class BookingServiceImplIntegrationTest {
 
     private Booking createCurrentBooking(Item item, User booker) {
         return Booking.builder()
-                .start(DateUtils.now().minusDays(1))
-                .end(DateUtils.now().plusDays(1))
+                .start(DateUtils.now().minusDays(1).truncatedTo(ChronoUnit.MICROS))
+                .end(DateUtils.now().plusDays(1).truncatedTo(ChronoUnit.MICROS))
                 .item(item)
                 .booker(booker)
                 .status(BookingStatus.APPROVED)
@@ -159,8 +256,8 @@ class BookingServiceImplIntegrationTest {
 
     Booking createFutureBooking(Item item, User booker) {
         return Booking.builder()
-                .start(DateUtils.now().plusDays(1))
-                .end(DateUtils.now().plusDays(2))
+                .start(DateUtils.now().plusDays(1).truncatedTo(ChronoUnit.MICROS))
+                .end(DateUtils.now().plusDays(2).truncatedTo(ChronoUnit.MICROS))
                 .item(item)
                 .booker(booker)
                 .status(BookingStatus.WAITING)
@@ -169,8 +266,8 @@ class BookingServiceImplIntegrationTest {
 
     Booking createRejectedBooking(Item item, User booker) {
         return Booking.builder()
-                .start(DateUtils.now().minusDays(1))
-                .end(DateUtils.now().plusDays(3))
+                .start(DateUtils.now().minusDays(1).truncatedTo(ChronoUnit.MICROS))
+                .end(DateUtils.now().plusDays(3).truncatedTo(ChronoUnit.MICROS))
                 .item(item)
                 .booker(booker)
                 .status(BookingStatus.REJECTED)
@@ -7,8 +7,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDtoRequest;
 import ru.practicum.shareit.booking.dto.BookingDtoResponse;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.dto.BookingForItemView;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.entity.BookingState;
@@ -17,17 +20,24 @@ import ru.practicum.shareit.booking.repository.BookingRepository;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemViewCache;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.repository.UserRepository;
 import ru.practicum.shareit.util.DateUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +51,8 @@ class BookingServiceImplTest {
     private UserRepository userRepository;
     @Spy
     private BookingMapper bookingMapper = Mappers.getMapper(BookingMapper.class);
+    @Mock
+    private ItemViewCache itemViewCache;
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -65,6 +77,41 @@ class BookingServiceImplTest {
         verify(bookingMapper).toBookingDtoResponse(any(Booking.class));
     }
 
+    @Test
+    void createBookingsTest() {
+        User itemOwner = createUser(1L);
+        User booker = createUser(2L);
+        Item availableItem = createItem(itemOwner);
+        availableItem.setId(5L);
+        Item bookedItem = createItem(itemOwner);
+        bookedItem.setId(6L);
+        BookingDtoRequest validRequest = creatBookingDtoRequest(5L);
+        BookingDtoRequest missingItemRequest = creatBookingDtoRequest(7L);
+        BookingDtoRequest takenPeriodRequest = creatBookingDtoRequest(6L);
+        BookingForItemView approvedBooking = mock(BookingForItemView.class);
+        when(approvedBooking.getItemId()).thenReturn(6L);
+        when(approvedBooking.getStart()).thenReturn(takenPeriodRequest.getStart().minusHours(1));
+        when(approvedBooking.getEnd()).thenReturn(takenPeriodRequest.getEnd().minusHours(1));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(booker));
+        when(itemRepository.findAllById(anySet())).thenReturn(List.of(availableItem, bookedItem));
+        when(bookingRepository.findApprovedBookingsOverlappingPeriod(anyCollection(), any(LocalDateTime.class),
+                any(LocalDateTime.class))).thenReturn(List.of(approvedBooking));
+
+        List<BookingBatchResultDto> results = bookingService.createBookings(List.of(validRequest,
+                missingItemRequest, takenPeriodRequest), 2L);
+
+        assertThat(results.get(0).getIndex()).isEqualTo(0);
+        assertThat(results.get(0).getBooking().getStatus()).isEqualTo(BookingStatus.WAITING);
+        assertThat(results.get(0).getError()).isNull();
+        assertThat(results.get(1).getBooking()).isNull();
+        assertThat(results.get(1).getError()).isEqualTo("There is no item with id=7 in the database");
+        assertThat(results.get(2).getBooking()).isNull();
+        assertThat(results.get(2).getError()).isEqualTo(String.format("Item with id=6 is already booked" +
+                " for the period from %s to %s", takenPeriodRequest.getStart(), takenPeriodRequest.getEnd()));
+        verify(bookingRepository).saveAll(argThat(bookings -> bookings.iterator().next().getItem() == availableItem));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
     @Test
     void createBooking_whenUserIsItemOwner_thenThrowException() {
         User itemOwner = createUser(1L);
@@ -108,6 +155,24 @@ class BookingServiceImplTest {
                         " the start date %s", dtoRequest.getEnd(), dtoRequest.getStart());
     }
 
+    @Test
+    void createBooking_whenPeriodIsAlreadyBooked_thenThrowException() {
+        User itemOwner = createUser(1L);
+        User booker = createUser(2L);
+        Item item = createItem(itemOwner);
+        item.setId(5L);
+        BookingDtoRequest dtoRequest = creatBookingDtoRequest(5L);
+        when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(booker));
+        when(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(5L, BookingStatus.APPROVED,
+                dtoRequest.getEnd(), dtoRequest.getStart())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(dtoRequest, 2L))
+                .isInstanceOf(BookingPeriodAlreadyTakenException.class)
+                .hasMessage("Item with id=5 is already booked for the period from %s to %s",
+                        dtoRequest.getStart(), dtoRequest.getEnd());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
 
     @Test
     void updateBooking_whenBookingWasApprovedByOwner_thenReturnApprovedStatus() {
@@ -137,6 +202,24 @@ class BookingServiceImplTest {
         verify(bookingMapper).toBookingDtoResponse(any(Booking.class));
     }
 
+    @Test
+    void updateBooking_whenApprovedPeriodIsAlreadyBooked_thenThrowException() {
+        User itemOwner = createUser(1L);
+        User booker = createUser(2L);
+        Item item = createItem(itemOwner);
+        item.setId(5L);
+        Booking booking = createBooking(1L, item, booker, BookingStatus.WAITING);
+        when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(booking));
+        when(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(5L, BookingStatus.APPROVED,
+                booking.getEnd(), booking.getStart())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.updateBooking(1L, 1L, true))
+                .isInstanceOf(BookingPeriodAlreadyTakenException.class)
+                .hasMessage("Item with id=5 is already booked for the period from %s to %s",
+                        booking.getStart(), booking.getEnd());
+        assertThat(booking.getStatus()).isEqualTo(BookingStatus.WAITING);
+    }
+
     @Test
     void updateBooking_whenUserNotItemOwner_thenThrowException() {
         User itemOwner = createUser(3L);
@@ -196,8 +279,8 @@ class BookingServiceImplTest {
     void getAllByBookerId_whenStateIsUnknown_thenThrowException() {
         when(userRepository.existsById(anyLong())).thenReturn(true);
 
-        assertThatThrownBy(() -> bookingService.getAllByBookerId(1L, BookingState.UNSUPPORTED_STATUS,
-                0, 10))
+        assertThatThrownBy(() -> bookingService.getAllByBookerId(1L,
+                BookingFilter.of(BookingState.UNSUPPORTED_STATUS), 0, 10))
                 .isInstanceOf(UnknownStateException.class)
                 .hasMessage("Unknown state: UNSUPPORTED_STATUS");
     }
@@ -207,8 +290,8 @@ class BookingServiceImplTest {
         Long userId = 99L;
         when(userRepository.existsById(userId)).thenReturn(false);
 
-        assertThatThrownBy(() -> bookingService.getAllByBookerId(userId, BookingState.UNSUPPORTED_STATUS,
-                0, 10))
+        assertThatThrownBy(() -> bookingService.getAllByBookerId(userId,
+                BookingFilter.of(BookingState.UNSUPPORTED_STATUS), 0, 10))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessage("There is no user with id=%s in the database", userId);
     }
@@ -217,12 +300,24 @@ class BookingServiceImplTest {
     void getAllByItemOwnerId_whenStateIsUnknown_thenThrowException() {
         when(userRepository.existsById(anyLong())).thenReturn(true);
 
-        assertThatThrownBy(() -> bookingService.getAllByItemOwnerId(1L, BookingState.UNSUPPORTED_STATUS,
-                0, 10))
+        assertThatThrownBy(() -> bookingService.getAllByItemOwnerId(1L,
+                BookingFilter.of(BookingState.UNSUPPORTED_STATUS), 0, 10))
                 .isInstanceOf(UnknownStateException.class)
                 .hasMessage("Unknown state: UNSUPPORTED_STATUS");
     }
 
+    @Test
+    void getAllByItemOwnerId_whenDateRangeIsIncorrect_thenThrowException() {
+        LocalDateTime rangeStart = DateUtils.now();
+        BookingFilter filter = BookingFilter.builder().rangeStart(rangeStart).rangeEnd(rangeStart).build();
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.getAllByItemOwnerId(1L, filter, 0, 10))
+                .isInstanceOf(IncorrectDateRangeException.class)
+                .hasMessage("The end of the date range %s cannot be earlier or equal the start %s",
+                        rangeStart, rangeStart);
+        verify(bookingRepository, never()).findBookings(any(), anyLong(), any(), any(), any());
+    }
 
     User createUser(Long userId) {
         return User.builder()
@@ -0,0 +1,27 @@
+package ru.practicum.shareit.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VirtualThreadsConfigTest {
+
+    @Test
+    void createVirtualThreadExecutor_whenJava21OrNewer_thenRunTasksOnVirtualThreads() throws Exception {
+        if (Runtime.version().feature() < 21) {
+            assertThatThrownBy(VirtualThreadsConfig::createVirtualThreadExecutor)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("shareit.virtual-threads.enabled=false");
+            return;
+        }
+        ExecutorService executor = VirtualThreadsConfig.createVirtualThreadExecutor();
+        Object isVirtual = executor.submit(() -> Thread.class.getMethod("isVirtual")
+                .invoke(Thread.currentThread())).get();
+        executor.shutdown();
+
+        assertThat(isVirtual).isEqualTo(true);
+    }
+}
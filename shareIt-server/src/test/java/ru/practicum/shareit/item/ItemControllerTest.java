@@ -8,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.exception.NotOwnerItemException;
 import ru.practicum.shareit.exception.UserDidNotBookingItemException;
 import ru.practicum.shareit.item.dto.*;
@@ -15,14 +16,15 @@ import ru.practicum.shareit.item.service.ItemService;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = ItemController.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -104,13 +106,68 @@ class ItemControllerTest {
                 ItemDtoResponseWithDate.builder().build(),
                 ItemDtoResponseWithDate.builder().build()
         );
-        when(itemService.getAllItemsByOwnerId(anyLong())).thenReturn(allItems);
+        when(itemService.getAllItemsByOwnerId(anyLong(), anyInt(), anyInt())).thenReturn(allItems);
         mockMvc.perform(get("/items/")
                         .header("X-Sharer-User-Id", 7)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.size()", is(2)));
-        verify(itemService, times(1)).getAllItemsByOwnerId(7L);
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+        verify(itemService, times(1)).getAllItemsByOwnerId(7L, 0, 100);
+    }
+
+    @Test
+    void getAllItemsByOwnerId_whenPageIsFull_thenReturnNextCursor() throws Exception {
+        List<ItemDtoResponseWithDate> items = List.of(
+                ItemDtoResponseWithDate.builder().id(3L).build(),
+                ItemDtoResponseWithDate.builder().id(5L).build()
+        );
+        when(itemService.getAllItemsByOwnerIdAfterCursor(anyLong(), any(ItemCursor.class), anyInt()))
+                .thenReturn(items);
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", 7)
+                        .param("size", "2")
+                        .param("cursor", new ItemCursor(1L).encode())
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(header().string("X-Next-Cursor", new ItemCursor(5L).encode()));
+        verify(itemService, times(1)).getAllItemsByOwnerIdAfterCursor(7L, new ItemCursor(1L), 2);
+    }
+
+    @Test
+    void getAllItemsByOwnerId_whenCursorIsIncorrect_thenReturnIsBadRequest() throws Exception {
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", 7)
+                        .param("cursor", "not-a-cursor")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("Cursor not-a-cursor is incorrect")));
+        verify(itemService, never()).getAllItemsByOwnerIdAfterCursor(anyLong(), any(ItemCursor.class), anyInt());
+    }
+
+    @Test
+    void streamAllItemsByOwnerId_whenSuccessful_thenWriteOneJsonObjectPerLine() throws Exception {
+        List<ItemDtoResponseWithDate> items = List.of(
+                ItemDtoResponseWithDate.builder().id(3L).name("Hammer").build(),
+                ItemDtoResponseWithDate.builder().id(5L).name("Drill").build()
+        );
+        when(itemService.getAllItemsByOwnerId(anyLong(), anyInt(), anyInt())).thenReturn(items);
+        MvcResult result = mockMvc.perform(get("/items/stream")
+                        .header("X-Sharer-User-Id", 7)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().collect(Collectors.toList());
+        assertThat(lines).hasSize(2);
+        assertThat(mapper.readValue(lines.get(1), ItemDtoResponseWithDate.class).getName()).isEqualTo("Drill");
+        verify(itemService, never()).getAllItemsByOwnerIdAfterCursor(anyLong(), any(ItemCursor.class), anyInt());
     }
 
     @Test
@@ -157,12 +214,12 @@ class ItemControllerTest {
                 ItemDtoResponse.builder().build(),
                 ItemDtoResponse.builder().build()
         );
-        when(itemService.getAvailableItemsByText(anyString())).thenReturn(availableItems);
-        mockMvc.perform(get("/items/search?text=Hummer")
+        when(itemService.getAvailableItemsByText(anyString(), anyInt(), anyInt())).thenReturn(availableItems);
+        mockMvc.perform(get("/items/search?text=Hummer&from=10&size=5")
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()", is(2)));
-        verify(itemService, times(1)).getAvailableItemsByText("Hummer");
+        verify(itemService, times(1)).getAvailableItemsByText("Hummer", 10, 5);
     }
 
     ItemDtoRequest createDtoRequest(String name, String description) {
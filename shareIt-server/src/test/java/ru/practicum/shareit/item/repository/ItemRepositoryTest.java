@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.item.entity.Item;
 import ru.practicum.shareit.user.entity.User;
 
@@ -51,9 +52,36 @@ class ItemRepositoryTest {
         entityManager.persist(item3);
         entityManager.persist(item4);
 
-        List<Item> items = itemRepository.findAvailableItemsByText("hummer");
+        List<Item> items = itemRepository.findAvailableItemsByText("hummer", PageRequest.of(0, 10));
 
         assertThat(items.size()).isEqualTo(2);
         assertThat(items).containsExactly(item1, item3);
     }
+
+    @Test
+    void findAvailableItemsByText_whenPaged_thenNameMatchesGoFirst() {
+        User owner = User.builder().name("Name").email("df@re.com").build();
+        entityManager.persist(owner);
+        Item descriptionMatch = createItem("Drill", "Cordless hammer drill", owner);
+        Item containsMatch = createItem("Sledge hammer", "Heavy", owner);
+        Item prefixMatch = createItem("Hammer", "Small", owner);
+        entityManager.persist(descriptionMatch);
+        entityManager.persist(containsMatch);
+        entityManager.persist(prefixMatch);
+
+        List<Item> firstPage = itemRepository.findAvailableItemsByText("hammer", PageRequest.of(0, 2));
+        List<Item> secondPage = itemRepository.findAvailableItemsByText("hammer", PageRequest.of(1, 2));
+
+        assertThat(firstPage).containsExactly(prefixMatch, containsMatch);
+        assertThat(secondPage).containsExactly(descriptionMatch);
+    }
+
+    Item createItem(String name, String description, User owner) {
+        return Item.builder()
+                .name(name)
+                .description(description)
+                .available(true)
+                .owner(owner)
+                .build();
+    }
 }
\ No newline at end of file
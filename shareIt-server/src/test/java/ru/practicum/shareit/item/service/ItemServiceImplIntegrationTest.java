@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.entity.BookingStatus;
 import ru.practicum.shareit.booking.repository.BookingRepository;
+import ru.practicum.shareit.item.dto.ItemCursor;
 import ru.practicum.shareit.item.dto.ItemDtoResponseWithDate;
 import ru.practicum.shareit.item.entity.Comment;
 import ru.practicum.shareit.item.entity.Item;
@@ -66,7 +67,7 @@ class ItemServiceImplIntegrationTest {
                 .build();
         commentRepository.saveAll(List.of(comment1ForItem3, comment2ForItem3));
 
-        List<ItemDtoResponseWithDate> allItems = itemService.getAllItemsByOwnerId(itemOwnerId);
+        List<ItemDtoResponseWithDate> allItems = itemService.getAllItemsByOwnerId(itemOwnerId, 0, 10);
 
         assertThat(allItems.size()).isEqualTo(2);
         assertThat(allItems.get(0).getName()).isEqualTo("Item1");
@@ -76,6 +77,14 @@ class ItemServiceImplIntegrationTest {
         assertThat(allItems.get(1).getComments().size()).isEqualTo(2);
         assertThat(allItems.get(1).getComments().get(0).getText()).isEqualTo("Comment1");
         assertThat(allItems.get(1).getComments().get(1).getText()).isEqualTo("Comment2");
+
+        List<ItemDtoResponseWithDate> firstPage = itemService.getAllItemsByOwnerId(itemOwnerId, 0, 1);
+        List<ItemDtoResponseWithDate> secondPage = itemService.getAllItemsByOwnerIdAfterCursor(itemOwnerId,
+                ItemCursor.of(firstPage.get(0)), 1);
+
+        assertThat(firstPage).extracting(ItemDtoResponseWithDate::getName).containsExactly("Item1");
+        assertThat(secondPage).extracting(ItemDtoResponseWithDate::getName).containsExactly("Item3");
+        assertThat(secondPage.get(0).getComments().size()).isEqualTo(2);
     }
 
     User createUser(String userPostfix) {
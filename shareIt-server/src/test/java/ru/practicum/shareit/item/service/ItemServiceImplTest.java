@@ -8,6 +8,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.entity.Booking;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.repository.BookingRepository;
@@ -55,6 +57,8 @@ class ItemServiceImplTest {
     private ItemMapper itemMapper = Mappers.getMapper(ItemMapper.class);
     @Spy
     private CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
+    @Mock
+    private ItemViewCache itemViewCache;
     @InjectMocks
     private ItemServiceImpl itemService;
 
@@ -71,7 +75,8 @@ class ItemServiceImplTest {
                 .description("Sharp saw")
                 .available(true)
                 .build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(owner));
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(userRepository.getReferenceById(anyLong())).thenReturn(owner);
         when(itemRepository.save(any(Item.class))).then(AdditionalAnswers.returnsFirstArg());
 
         ItemDtoResponse dtoResponse = itemService.createItem(itemDtoRequest, ownerId);
@@ -79,7 +84,7 @@ class ItemServiceImplTest {
         assertThat(dtoResponse.getName()).isEqualTo("Saw");
         assertThat(dtoResponse.getDescription()).isEqualTo("Sharp saw");
         assertThat(dtoResponse.getAvailable()).isTrue();
-        verify(userRepository).findById(anyLong());
+        verify(userRepository).getReferenceById(anyLong());
         verify(itemMapper).toItem(any(ItemDtoRequest.class), any(User.class), any());
         verify(itemRepository).save(any(Item.class));
         verify(itemMapper).toItemDtoResponse(any(Item.class));
@@ -101,7 +106,8 @@ class ItemServiceImplTest {
                 .requestId(requestId)
                 .build();
         ItemRequest itemRequest = ItemRequest.builder().id(requestId).build();
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(owner));
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(userRepository.getReferenceById(anyLong())).thenReturn(owner);
         when(itemRequestRepository.findById(anyLong())).thenReturn(Optional.of(itemRequest));
         when(itemRepository.save(any(Item.class))).then(AdditionalAnswers.returnsFirstArg());
 
@@ -111,7 +117,7 @@ class ItemServiceImplTest {
         assertThat(dtoResponse.getDescription()).isEqualTo("Sharp saw");
         assertThat(dtoResponse.getAvailable()).isTrue();
         assertThat(dtoResponse.getRequestId()).isEqualTo(requestId);
-        verify(userRepository).findById(anyLong());
+        verify(userRepository).getReferenceById(anyLong());
         verify(itemRequestRepository).findById(anyLong());
         verify(itemMapper).toItem(any(ItemDtoRequest.class), any(User.class), any());
         verify(itemRepository).save(any(Item.class));
@@ -202,7 +208,7 @@ class ItemServiceImplTest {
                 .owner(user)
                 .build();
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(bookingRepository.findAllSortedByStartApprovedBookingsByItemId(anyLong()))
+        when(bookingRepository.findLastAndNextApprovedBookings(anyList(), any(LocalDateTime.class)))
                 .thenReturn(Collections.emptyList());
         when((commentRepository.findAllByItemId(anyLong()))).thenReturn(Collections.emptyList());
 
@@ -217,7 +223,7 @@ class ItemServiceImplTest {
         assertThat(dto.getComments()).isEmpty();
 
         verify(itemRepository).findById(anyLong());
-        verify(bookingRepository).findAllSortedByStartApprovedBookingsByItemId(anyLong());
+        verify(bookingRepository).findLastAndNextApprovedBookings(anyList(), any(LocalDateTime.class));
         verify(commentRepository).findAllByItemId(anyLong());
         verify(bookingMapper, times(2)).toBookingDtoForItem(any());
         verify(commentMapper).toCommentDtoResponseList(anyList());
@@ -239,8 +245,6 @@ class ItemServiceImplTest {
                 .owner(user)
                 .build();
         when(itemRepository.findById(anyLong())).thenReturn(Optional.of(item));
-        when(bookingRepository.findAllSortedByStartApprovedBookingsByItemId(anyLong()))
-                .thenReturn(Collections.emptyList());
         when((commentRepository.findAllByItemId(anyLong()))).thenReturn(Collections.emptyList());
 
         ItemDtoResponseWithDate dto = itemService.getItemById(5L, 3L);
@@ -254,7 +258,7 @@ class ItemServiceImplTest {
         assertThat(dto.getComments()).isEmpty();
 
         verify(itemRepository).findById(anyLong());
-        verify(bookingRepository).findAllSortedByStartApprovedBookingsByItemId(anyLong());
+        verifyNoInteractions(bookingRepository);
         verify(commentRepository).findAllByItemId(anyLong());
         verify(commentMapper).toCommentDtoResponseList(anyList());
         verify(itemMapper).toItemDtoResponseWithDate(any(Item.class), any(), any(), anyList());
@@ -266,17 +270,17 @@ class ItemServiceImplTest {
                 Item.builder().build(),
                 Item.builder().build()
         );
-        when(itemRepository.findAvailableItemsByText(anyString())).thenReturn(items);
-        List<ItemDtoResponse> resultList = itemService.getAvailableItemsByText("Any text");
+        when(itemRepository.findAvailableItemsByText(anyString(), any(Pageable.class))).thenReturn(items);
+        List<ItemDtoResponse> resultList = itemService.getAvailableItemsByText("Any text", 20, 10);
 
         assertThat(resultList.size()).isEqualTo(2);
-        verify(itemRepository).findAvailableItemsByText(anyString());
+        verify(itemRepository).findAvailableItemsByText("Any text", PageRequest.of(2, 10));
         verify(itemMapper).toItemDtoResponseList(anyList());
     }
 
     @Test
     void getAvailableItemsByText_whenTextParamIsBlank() {
-        List<ItemDtoResponse> resultList = itemService.getAvailableItemsByText("");
+        List<ItemDtoResponse> resultList = itemService.getAvailableItemsByText("", 0, 10);
 
         assertThat(resultList).isEmpty();
     }
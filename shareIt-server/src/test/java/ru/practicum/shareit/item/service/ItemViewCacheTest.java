@@ -0,0 +1,90 @@
+package ru.practicum.shareit.item.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import ru.practicum.shareit.item.dto.ItemDtoResponseWithDate;
+import ru.practicum.shareit.util.DateUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemViewCacheTest {
+    private static final Long ITEM_ID = 1L;
+    private static final Long OWNER_ID = 2L;
+    private static final Long OTHER_USER_ID = 3L;
+    private final ItemViewCache itemViewCache =
+            new ItemViewCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+
+    @Test
+    void get_whenViewsAreCached_thenReturnViewForCallerKind() {
+        ItemDtoResponseWithDate ownerView = ItemDtoResponseWithDate.builder().id(ITEM_ID).name("owner").build();
+        ItemDtoResponseWithDate publicView = ItemDtoResponseWithDate.builder().id(ITEM_ID).name("public").build();
+        itemViewCache.put(ITEM_ID, OWNER_ID, OWNER_ID, ownerView, null, itemViewCache.currentGeneration(ITEM_ID));
+        itemViewCache.put(ITEM_ID, OWNER_ID, OTHER_USER_ID, publicView, null, itemViewCache.currentGeneration(ITEM_ID));
+
+        assertThat(itemViewCache.get(ITEM_ID, OWNER_ID)).isSameAs(ownerView);
+        assertThat(itemViewCache.get(ITEM_ID, OTHER_USER_ID)).isSameAs(publicView);
+        assertThat(itemViewCache.get(ITEM_ID, 4L)).isSameAs(publicView);
+    }
+
+    @Test
+    void get_whenOnlyOwnerViewIsCached_thenReturnNullForOtherUser() {
+        ItemDtoResponseWithDate ownerView = ItemDtoResponseWithDate.builder().id(ITEM_ID).build();
+        itemViewCache.put(ITEM_ID, OWNER_ID, OWNER_ID, ownerView, null, itemViewCache.currentGeneration(ITEM_ID));
+
+        assertThat(itemViewCache.get(ITEM_ID, OTHER_USER_ID)).isNull();
+    }
+
+    @Test
+    void get_whenNextBookingHasStarted_thenOwnerViewIsExpired() {
+        ItemDtoResponseWithDate ownerView = ItemDtoResponseWithDate.builder().id(ITEM_ID).build();
+        itemViewCache.put(ITEM_ID, OWNER_ID, OWNER_ID, ownerView, DateUtils.now().minusSeconds(1),
+                itemViewCache.currentGeneration(ITEM_ID));
+
+        assertThat(itemViewCache.get(ITEM_ID, OWNER_ID)).isNull();
+    }
+
+    @Test
+    void evict_thenBothViewsAreRemoved() {
+        ItemDtoResponseWithDate view = ItemDtoResponseWithDate.builder().id(ITEM_ID).build();
+        itemViewCache.put(ITEM_ID, OWNER_ID, OWNER_ID, view, DateUtils.now().plusDays(1),
+                itemViewCache.currentGeneration(ITEM_ID));
+        itemViewCache.put(ITEM_ID, OWNER_ID, OTHER_USER_ID, view, null, itemViewCache.currentGeneration(ITEM_ID));
+
+        itemViewCache.evict(ITEM_ID);
+
+        assertThat(itemViewCache.get(ITEM_ID, OWNER_ID)).isNull();
+        assertThat(itemViewCache.get(ITEM_ID, OTHER_USER_ID)).isNull();
+    }
+
+    @Test
+    void put_whenItemWasEvictedAfterReadStarted_thenStaleViewIsNotCached() {
+        ItemDtoResponseWithDate staleView = ItemDtoResponseWithDate.builder().id(ITEM_ID).name("stale").build();
+        long generation = itemViewCache.currentGeneration(ITEM_ID);
+
+        itemViewCache.evict(ITEM_ID);
+        itemViewCache.put(ITEM_ID, OWNER_ID, OTHER_USER_ID, staleView, null, generation);
+
+        assertThat(itemViewCache.get(ITEM_ID, OTHER_USER_ID)).isNull();
+    }
+
+    @Test
+    void evictAll_thenViewsOfAllItemsAreRemovedAndInFlightReadsAreNotCached() {
+        Long otherItemId = 5L;
+        Long otherOwnerId = 6L;
+        ItemDtoResponseWithDate view = ItemDtoResponseWithDate.builder().id(ITEM_ID).build();
+        ItemDtoResponseWithDate otherView = ItemDtoResponseWithDate.builder().id(otherItemId).build();
+        itemViewCache.put(ITEM_ID, OWNER_ID, OTHER_USER_ID, view, null, itemViewCache.currentGeneration(ITEM_ID));
+        itemViewCache.put(otherItemId, otherOwnerId, OTHER_USER_ID, otherView, null,
+                itemViewCache.currentGeneration(otherItemId));
+        long generation = itemViewCache.currentGeneration(otherItemId);
+
+        itemViewCache.evictAll();
+        itemViewCache.put(otherItemId, otherOwnerId, otherOwnerId, otherView, null, generation);
+
+        assertThat(itemViewCache.get(ITEM_ID, OTHER_USER_ID)).isNull();
+        assertThat(itemViewCache.get(otherItemId, OTHER_USER_ID)).isNull();
+        assertThat(itemViewCache.get(otherItemId, otherOwnerId)).isNull();
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingFilter;
+import ru.practicum.shareit.booking.entity.BookingState;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@AutoConfigureMetrics
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@Transactional
+class ServiceMetricsAspectTest {
+    private final BookingService bookingService;
+    private final UserRepository userRepository;
+    private final PrometheusMeterRegistry meterRegistry;
+
+    @Test
+    void serviceAndRepositoryCalls_areTimedWithMethodStateAndOutcomeTags() {
+        User user = userRepository.save(User.builder().name("Name").email("metrics@mail.ru").build());
+
+        bookingService.getAllByBookerId(user.getId(), BookingFilter.of(BookingState.PAST), 0, 10);
+        assertThatThrownBy(() -> bookingService.getAllByBookerId(-1L, BookingFilter.of(BookingState.ALL), 0, 10))
+                .isInstanceOf(UserNotFoundException.class);
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tags("class", "BookingServiceImpl", "method", "getAllByBookerId")
+                .tags("state", "PAST", "outcome", "success")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tags("method", "getAllByBookerId", "state", "ALL", "outcome", "UserNotFoundException")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tags("repository", "BookingRepository", "method", "findBookings")
+                .timer()
+                .count()).isEqualTo(1);
+        assertThat(meterRegistry.scrape()).contains("shareit_service_invocations_seconds_bucket");
+    }
+}
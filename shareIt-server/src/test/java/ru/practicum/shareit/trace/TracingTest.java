@@ -0,0 +1,82 @@
+package ru.practicum.shareit.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.user.entity.User;
+import ru.practicum.shareit.user.repository.UserRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "logging.level.shareit.trace=DEBUG")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+class TracingTest {
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+    private static final String TRACE_LOGGER = "shareit.trace";
+    private final MockMvc mockMvc;
+    private final UserRepository userRepository;
+
+    @AfterEach
+    void deleteData() {
+        userRepository.deleteAllInBatch();
+        LoggingSystem.get(getClass().getClassLoader()).setLogLevel(TRACE_LOGGER, LogLevel.DEBUG);
+    }
+
+    @Test
+    void request_whenTraceparentIsSent_thenAllStagesAreLoggedWithinTheSameTrace(CapturedOutput output)
+            throws Exception {
+        User user = userRepository.save(User.builder().name("Name").email("trace@mail.ru").build());
+
+        mockMvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", user.getId())
+                        .header(Span.TRACEPARENT, String.format("00-%s-%s-01", TRACE_ID, PARENT_ID)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(Span.TRACEPARENT, startsWith("00-" + TRACE_ID)));
+
+        assertThat(output.getOut())
+                .contains("span=server.request GET /bookings traceId=" + TRACE_ID)
+                .contains("parentId=" + PARENT_ID)
+                .contains("span=server.controller BookingController.getAllByBookerId traceId=" + TRACE_ID)
+                .contains("span=server.service BookingServiceImpl.getAllByBookerId traceId=" + TRACE_ID)
+                .contains("span=server.repository BookingRepository.")
+                .contains("span=server.json.write traceId=" + TRACE_ID)
+                .containsPattern("span=server\\.repository BookingRepository\\.\\w+ traceId=" + TRACE_ID
+                        + " parentId=[0-9a-f]{16} durationMicros=");
+    }
+
+    @Test
+    void request_whenTraceLoggerIsAboveDebug_thenSpansAreNotLogged(CapturedOutput output) throws Exception {
+        LoggingSystem.get(getClass().getClassLoader()).setLogLevel(TRACE_LOGGER, LogLevel.INFO);
+
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(Span.TRACEPARENT));
+
+        assertThat(output.getOut()).doesNotContain("span=server.");
+    }
+
+    @Test
+    void request_whenTraceparentIsMissing_thenNewTraceIsStarted() throws Exception {
+        mockMvc.perform(get("/users"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(Span.TRACEPARENT,
+                        matchesPattern("00-[0-9a-f]{32}-[0-9a-f]{16}-01")));
+    }
+}
@@ -1,5 +1,7 @@
 package ru.practicum.shareit.user.service;
 
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
@@ -9,16 +11,21 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.entity.Item;
+import ru.practicum.shareit.item.service.ItemViewCache;
+import ru.practicum.shareit.request.entity.ItemRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.entity.User;
 import ru.practicum.shareit.user.mapper.UserMapper;
 import ru.practicum.shareit.user.repository.UserRepository;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +33,10 @@ import static org.mockito.Mockito.when;
 class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ItemViewCache itemViewCache;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
     @Spy
     private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
     @InjectMocks
@@ -69,7 +80,7 @@ class UserServiceImplTest {
     @Test
     void getUserEntityByIdTest_whenUserIsAbsent_thenThrowException() {
         Long userId = 99L;
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyLong())).thenReturn(false);
 
         assertThatThrownBy(() -> userService.getUserEntityById(userId))
                 .isInstanceOf(UserNotFoundException.class)
@@ -112,11 +123,19 @@ class UserServiceImplTest {
     @Test
     void deleteUserTest() {
         Long userId = 4L;
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Cache cache = mock(Cache.class);
         when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
 
         userService.deleteUser(userId);
 
         verify(userRepository).deleteById(userId);
+        verify(itemViewCache).evictAll();
+        verify(cache).evictEntityData(Item.class);
+        verify(cache).evictEntityData(ItemRequest.class);
+        verify(cache).evictQueryRegions();
     }
 
     @Test